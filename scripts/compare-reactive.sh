@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Compares throughput and latency of GET /api/v1/prices on the servlet/JPA stack and on the reactive
+# WebFlux/R2DBC stack, both limited to the same small number of request threads.
+# Usage: scripts/compare-reactive.sh [concurrency] [seconds] [threads] [extra application args...]
+# Every lookup goes to the database (pricing.cache.max-products=0) so that the request path waits on it.
+set -euo pipefail
+
+CONCURRENCY=${1:-400}
+SECONDS_PER_RUN=${2:-30}
+THREADS=${3:-4}
+shift $(( $# > 3 ? 3 : $# ))
+PORT=18080
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+
+"$ROOT/gradlew" -q -p "$ROOT" bootJar
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+
+run() {
+  local label=$1; shift
+  java "$@" > /dev/null 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 0.5; done
+  # Warm-up, then measured run
+  java "$ROOT/scripts/PriceLoad.java" "http://localhost:$PORT" "$CONCURRENCY" 10 > /dev/null
+  echo -n "$label: "
+  java "$ROOT/scripts/PriceLoad.java" "http://localhost:$PORT" "$CONCURRENCY" "$SECONDS_PER_RUN"
+  kill $pid && wait $pid 2> /dev/null || true
+}
+
+APP_ARGS=(--server.port=$PORT --spring.jpa.show-sql=false --logging.level.root=WARN --pricing.cache.max-products=0)
+
+run "servlet/JPA     " -jar "$JAR" "${APP_ARGS[@]}" --server.tomcat.threads.max="$THREADS" "$@"
+run "WebFlux/R2DBC   " -Dreactor.netty.ioWorkerCount="$THREADS" -jar "$JAR" "${APP_ARGS[@]}" \
+    --spring.profiles.active=reactive "$@"
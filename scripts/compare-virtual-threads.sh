@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Compares throughput and latency of GET /api/v1/prices with the virtual-thread mode off and on.
+# Usage: scripts/compare-virtual-threads.sh [concurrency] [seconds] [extra application args...]
+# Every lookup goes to the database (pricing.cache.max-products=0) so that the request path blocks on JDBC.
+set -euo pipefail
+
+CONCURRENCY=${1:-400}
+SECONDS_PER_RUN=${2:-30}
+shift $(( $# > 2 ? 2 : $# ))
+PORT=18080
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+
+"$ROOT/gradlew" -q -p "$ROOT" bootJar
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+
+run() {
+  local label=$1; shift
+  java -jar "$JAR" --server.port=$PORT --spring.jpa.show-sql=false --logging.level.root=WARN \
+      --pricing.cache.max-products=0 "$@" > /dev/null 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 0.5; done
+  # Warm-up, then measured run
+  java "$ROOT/scripts/PriceLoad.java" "http://localhost:$PORT" "$CONCURRENCY" 10 > /dev/null
+  echo -n "$label: "
+  java "$ROOT/scripts/PriceLoad.java" "http://localhost:$PORT" "$CONCURRENCY" "$SECONDS_PER_RUN"
+  kill $pid && wait $pid 2> /dev/null || true
+}
+
+run "platform threads" "$@"
+run "virtual threads " --spring.profiles.active=virtual-threads "$@"
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Starts the application, seeds a catalog of products through the CSV import and runs the open-loop load
+# generator against GET /api/v1/prices at each of the given rates.
+# Usage: scripts/load-test.sh [rates] [duration] [extra app options...]
+# e.g. scripts/load-test.sh "200 500 1000" 30s --pricing.repository.type=segments
+# Reports are written to build/load/<rate>.txt, with the corrected latency distribution in build/load/<rate>.hgrm.
+set -euo pipefail
+
+RATES=${1:-"200 500 1000"}
+DURATION=${2:-30s}
+shift $(( $# > 2 ? 2 : $# ))
+PORT=18082
+PRODUCTS=10000
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/build/load"
+mkdir -p "$OUT"
+
+"$ROOT/gradlew" -q -p "$ROOT" bootJar loadClasses
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+
+java -jar "$JAR" --server.port=$PORT --logging.level.root=WARN --spring.profiles.active=prod \
+    --pricing.import.http.enabled=true "$@" \
+    > "$OUT/app.log" 2>&1 &
+APP=$!
+trap 'kill $APP 2> /dev/null || true' EXIT
+until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do sleep 0.5; done
+
+SEED=--seed-catalog=true
+for rate in $RATES; do
+  "$ROOT/gradlew" -q -p "$ROOT" loadTest -Pload.args="--url=http://localhost:$PORT --rate=$rate --duration=$DURATION \
+--distribution=zipf --products=$PRODUCTS --first-product=1000000 --histogram=$OUT/$rate.hgrm $SEED" | tee "$OUT/$rate.txt"
+  SEED=
+done
@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Measures the time from JVM launch to the first successful GET /api/v1/prices, for the default build
+# and for the startup-optimized build (prod profile, Spring AOT, CDS archive).
+# Usage: scripts/measure-startup.sh [runs]
+# Each variant is started [runs] times (default 5); the minimum and median are reported in milliseconds.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=18081
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+URL="http://localhost:$PORT/api/v1/prices?brandId=1&productId=35455&applicationDate=2020-06-14T10:00:00"
+
+# Default build, kept aside before the AOT build replaces the boot jar
+"$ROOT/gradlew" -q -p "$ROOT" bootJar
+cp "$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)" "$WORK/default.jar"
+
+# AOT build, extracted, with the CDS archive of a training run
+"$ROOT/gradlew" -q -p "$ROOT" cdsArchive -Paot
+CDS_JAR=$(ls "$ROOT"/build/cds/*-SNAPSHOT.jar | head -1)
+
+measure() {
+  local label=$1; shift
+  local times=()
+  for ((run = 0; run < RUNS; run++)); do
+    local start
+    start=$(date +%s%N)
+    java "$@" --server.port=$PORT --logging.level.root=WARN > /dev/null 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$URL"; do sleep 0.02; done
+    times+=($(( ($(date +%s%N) - start) / 1000000 )))
+    kill $pid && wait $pid 2> /dev/null || true
+  done
+  local sorted
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  printf '%-28s min %6d ms   median %6d ms   runs: %s\n' "$label" "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" "${times[*]}"
+}
+
+measure "default"                -jar "$WORK/default.jar"
+measure "prod profile"           -jar "$WORK/default.jar" --spring.profiles.active=prod
+measure "prod + AOT"             -Dspring.aot.enabled=true -jar "$CDS_JAR" --spring.profiles.active=prod
+measure "prod + AOT + CDS"       -XX:SharedArchiveFile="$ROOT/build/cds/application.jsa" -Xlog:cds=error \
+    -Dspring.aot.enabled=true -jar "$CDS_JAR" --spring.profiles.active=prod
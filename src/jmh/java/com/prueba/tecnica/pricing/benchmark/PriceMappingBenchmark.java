@@ -0,0 +1,65 @@
+package com.prueba.tecnica.pricing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prueba.tecnica.pricing.application.converter.PriceResponseHttpMessageConverter;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.application.mapper.PriceResponseMapper;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.infrastructure.persistence.entity.PriceEntity;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+
+/**
+ * Cost of the copies made on every lookup (entity to {@code Price} to {@code PriceResult} to
+ * {@code PriceResponseDto}) and of the JSON serialization of the response, with Jackson and with the
+ * pre-encoded writer of {@code PriceResponseHttpMessageConverter}.
+ */
+@State(Scope.Benchmark)
+public class PriceMappingBenchmark {
+
+    private PriceEntity entity;
+    private PriceResponseDto responseDto;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        entity = PriceEntity.builder()
+                .id(2L)
+                .brandId(1L)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30, 0))
+                .priceList(2L)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .currency("EUR")
+                .build();
+        responseDto = PriceResponseMapper.toDto(PriceResult.from(PriceEntityMapper.toDomain(entity)));
+        // Same defaults as the ObjectMapper auto-configured by Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public PriceResponseDto mappingChain() {
+        return PriceResponseMapper.toDto(PriceResult.from(PriceEntityMapper.toDomain(entity)));
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseDto);
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() {
+        return PriceResponseHttpMessageConverter.encode(responseDto);
+    }
+}
@@ -0,0 +1,41 @@
+package com.prueba.tecnica.pricing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.service.PriceQueryService;
+
+/**
+ * Cost of the domain service alone, against a port stub that always returns the same price.
+ */
+@State(Scope.Benchmark)
+public class PriceQueryServiceBenchmark {
+
+    private static final long APPLICATION_DATE = PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+    private PriceQueryService priceQueryService;
+
+    @Setup
+    public void setUp() {
+        Price price = Price.of(1L,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        Optional<PriceSegment> segment = Optional.of(new PriceSegment(price.getStartDate(), price.getEndDate() + 1, price));
+        priceQueryService = new PriceQueryService((brandId, productId, applicationDate) -> segment);
+    }
+
+    @Benchmark
+    public PriceResult getApplicablePrice() {
+        return priceQueryService.getApplicablePrice(1L, 35455L, APPLICATION_DATE);
+    }
+}
@@ -0,0 +1,205 @@
+package com.prueba.tecnica.pricing.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.prueba.tecnica.pricing.PricingApplication;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.adapter.JdbcPriceRepositoryAdapter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.adapter.OffHeapPriceRepositoryAdapter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.adapter.PriceRepositoryAdapter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.cache.PriceTimelineCache;
+import com.prueba.tecnica.pricing.infrastructure.persistence.entity.PriceEntity;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of the JPA adapter against H2 with a synthetic catalog of {@code products} products,
+ * each one with the four overlapping price lists of the sample data.
+ * Lookups pick a random product and a random instant of 2020.
+ * <p>
+ * The plain JDBC adapter runs the same queries without Hibernate: {@code jdbcLookup} against
+ * {@code uncachedLookup} for the product query behind a segment lookup, and {@code jdbcBestPrice}
+ * against {@code jpaBestPrice} for the one-row winner query.
+ * <p>
+ * {@code offHeapLookup} answers from the off-heap columnar store, against {@code cachedLookup} for the
+ * on-heap timelines.
+ */
+@State(Scope.Benchmark)
+public class PriceRepositoryAdapterBenchmark {
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+    private static final int SECONDS_PER_YEAR = 366 * 24 * 3600;
+    private static final long FIRST_PRODUCT_ID = 100_000L;
+
+    @Param({"1000", "100000"})
+    public int products;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryAdapter adapter;
+    private PriceTimelineCache priceTimelineCache;
+    private JpaPriceRepository jpaPriceRepository;
+    private JdbcPriceRepositoryAdapter jdbcAdapter;
+    private OffHeapPriceRepositoryAdapter offHeapAdapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PricingApplication.class)
+                .web(WebApplicationType.NONE)
+                // Arguments rather than default properties, which application.properties would override
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + products,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--pricing.repository.type=jpa",
+                        "--pricing.changes.enabled=false",
+                        "--pricing.cache.max-products=" + 2 * products);
+        adapter = context.getBean(PriceRepositoryAdapter.class);
+        priceTimelineCache = context.getBean(PriceTimelineCache.class);
+        jpaPriceRepository = context.getBean(JpaPriceRepository.class);
+        jdbcAdapter = new JdbcPriceRepositoryAdapter(context.getBean(DataSource.class), 4, Duration.ofSeconds(5));
+        insertCatalog(context.getBean(JdbcTemplate.class));
+        offHeapAdapter = new OffHeapPriceRepositoryAdapter(context.getBean(JdbcTemplate.class), jpaPriceRepository,
+                context.getBean(DatabaseConcurrencyLimiter.class), new SimpleMeterRegistry(), 10_000);
+
+        List<PriceKey> keys = new ArrayList<>(products);
+        for (long productId = FIRST_PRODUCT_ID; productId < FIRST_PRODUCT_ID + products; productId++) {
+            keys.add(new PriceKey(1L, productId));
+        }
+        priceTimelineCache.getAll(keys);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcAdapter.close();
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        private static final int SIZE = 4096;
+        private final Long[] productIds = new Long[SIZE];
+        private final long[] applicationDates = new long[SIZE];
+        private final LocalDateTime[] applicationDateTimes = new LocalDateTime[SIZE];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(PriceRepositoryAdapterBenchmark benchmark) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < SIZE; i++) {
+                productIds[i] = FIRST_PRODUCT_ID + random.nextInt(benchmark.products);
+                applicationDateTimes[i] = YEAR_START.plusSeconds(random.nextInt(SECONDS_PER_YEAR));
+                applicationDates[i] = PriceUnits.toEpochMicros(applicationDateTimes[i]);
+            }
+        }
+
+        int next() {
+            next = (next + 1) & (SIZE - 1);
+            return next;
+        }
+    }
+
+    /**
+     * Lookup through the adapter once every product timeline is cached.
+     */
+    @Benchmark
+    public Optional<Price> cachedLookup(Lookups lookups) {
+        int i = lookups.next();
+        return adapter.findApplicablePrices(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    /**
+     * Lookup through the adapter when the product timeline has to be loaded from the database.
+     */
+    @Benchmark
+    public Optional<Price> uncachedLookup(Lookups lookups) {
+        int i = lookups.next();
+        priceTimelineCache.evict(new PriceKey(1L, lookups.productIds[i]));
+        return adapter.findApplicablePrices(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    /**
+     * The product query a cache miss runs, as a reference for the database round-trip.
+     */
+    @Benchmark
+    public List<PriceEntity> productQuery(Lookups lookups) {
+        int i = lookups.next();
+        return jpaPriceRepository.findProductPrices(1L, lookups.productIds[i]);
+    }
+
+    /**
+     * The same lookup as {@code uncachedLookup} with the product prices read by the plain JDBC adapter.
+     */
+    @Benchmark
+    public Optional<PriceSegment> jdbcLookup(Lookups lookups) {
+        int i = lookups.next();
+        return jdbcAdapter.findApplicableSegment(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    /**
+     * The same lookup as {@code cachedLookup} answered from the off-heap columnar store.
+     */
+    @Benchmark
+    public Optional<Price> offHeapLookup(Lookups lookups) {
+        int i = lookups.next();
+        return offHeapAdapter.findApplicablePrices(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    /**
+     * The one-row winner query through Spring Data JPA, mapped to the domain model.
+     */
+    @Benchmark
+    public Optional<Price> jpaBestPrice(Lookups lookups) {
+        int i = lookups.next();
+        return jpaPriceRepository.findBestApplicablePrice(1L, lookups.productIds[i], lookups.applicationDateTimes[i])
+                .map(PriceEntityMapper::toDomain);
+    }
+
+    /**
+     * The one-row winner query through the plain JDBC adapter.
+     */
+    @Benchmark
+    public Optional<Price> jdbcBestPrice(Lookups lookups) {
+        int i = lookups.next();
+        return jdbcAdapter.findApplicablePrices(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    private void insertCatalog(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(products * 4);
+        for (long productId = FIRST_PRODUCT_ID; productId < FIRST_PRODUCT_ID + products; productId++) {
+            rows.add(new Object[] {"2020-06-14 00:00:00", "2020-12-31 23:59:59", 1, productId, 0, 35.50});
+            rows.add(new Object[] {"2020-06-14 15:00:00", "2020-06-14 18:30:00", 2, productId, 1, 25.45});
+            rows.add(new Object[] {"2020-06-15 00:00:00", "2020-06-15 11:00:00", 3, productId, 1, 30.50});
+            rows.add(new Object[] {"2020-06-15 16:00:00", "2020-12-31 23:59:59", 4, productId, 1, 38.95});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+                VALUES (1, ?, ?, ?, ?, ?, ?, 'EUR')
+                """, rows);
+    }
+}
@@ -0,0 +1,109 @@
+package com.prueba.tecnica.pricing.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.infrastructure.persistence.snapshot.PriceSnapshot;
+import com.prueba.tecnica.pricing.infrastructure.persistence.snapshot.PriceSnapshotWriter;
+
+/**
+ * Cost of opening a price snapshot, which is the startup cost of the snapshot adapter, and of a
+ * lookup in the mapped file, for a synthetic catalog of {@code products} products with the four
+ * overlapping price lists of the sample data.
+ */
+@State(Scope.Benchmark)
+public class PriceSnapshotBenchmark {
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+    private static final int SECONDS_PER_YEAR = 366 * 24 * 3600;
+
+    @Param({"1000", "100000"})
+    public int products;
+
+    private Path file;
+    private PriceSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("prices", ".snap");
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(file)) {
+            for (long productId = 0; productId < products; productId++) {
+                for (PriceSegment segment : PriceTimeline.of(catalogPrices(productId)).segments()) {
+                    writer.append(segment);
+                }
+            }
+            writer.commit();
+        }
+        snapshot = PriceSnapshot.open(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        private static final int SIZE = 4096;
+        private final long[] productIds = new long[SIZE];
+        private final long[] applicationDates = new long[SIZE];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(PriceSnapshotBenchmark benchmark) {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < SIZE; i++) {
+                productIds[i] = random.nextInt(benchmark.products);
+                applicationDates[i] = PriceUnits.toEpochMicros(YEAR_START.plusSeconds(random.nextInt(SECONDS_PER_YEAR)));
+            }
+        }
+
+        int next() {
+            next = (next + 1) & (SIZE - 1);
+            return next;
+        }
+    }
+
+    /**
+     * Map the file and verify its header and checksum.
+     */
+    @Benchmark
+    public PriceSnapshot open() throws IOException {
+        return PriceSnapshot.open(file);
+    }
+
+    /**
+     * Binary search of the mapped records.
+     */
+    @Benchmark
+    public Optional<PriceSegment> lookup(Lookups lookups) {
+        int i = lookups.next();
+        return snapshot.segmentAt(1L, lookups.productIds[i], lookups.applicationDates[i]);
+    }
+
+    private static List<Price> catalogPrices(long productId) {
+        return List.of(
+                Price.of(1L, LocalDateTime.parse("2020-06-14T00:00:00"), LocalDateTime.parse("2020-12-31T23:59:59"), 1L, productId, 0, new BigDecimal("35.50"), "EUR"),
+                Price.of(1L, LocalDateTime.parse("2020-06-14T15:00:00"), LocalDateTime.parse("2020-06-14T18:30:00"), 2L, productId, 1, new BigDecimal("25.45"), "EUR"),
+                Price.of(1L, LocalDateTime.parse("2020-06-15T00:00:00"), LocalDateTime.parse("2020-06-15T11:00:00"), 3L, productId, 1, new BigDecimal("30.50"), "EUR"),
+                Price.of(1L, LocalDateTime.parse("2020-06-15T16:00:00"), LocalDateTime.parse("2020-12-31T23:59:59"), 4L, productId, 1, new BigDecimal("38.95"), "EUR"));
+    }
+}
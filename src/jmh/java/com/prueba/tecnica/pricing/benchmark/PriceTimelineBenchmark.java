@@ -0,0 +1,54 @@
+package com.prueba.tecnica.pricing.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+
+/**
+ * Cost of resolving the timeline of a product with a long price history, as done on every cache
+ * miss, and of a lookup in the resolved timeline.
+ */
+@State(Scope.Benchmark)
+public class PriceTimelineBenchmark {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+
+    private List<Price> prices;
+    private PriceTimeline timeline;
+    private long applicationDate;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime start = ORIGIN.plusHours(random.nextInt(24 * 365));
+            prices.add(Price.of(1L, start, start.plusHours(1 + random.nextInt(24 * 30)), (long) i, 35455L,
+                    random.nextInt(3), BigDecimal.valueOf(1000 + random.nextInt(9000), 2), "EUR"));
+        }
+        timeline = PriceTimeline.of(prices);
+        applicationDate = PriceUnits.toEpochMicros(ORIGIN.plusDays(180));
+    }
+
+    @Benchmark
+    public PriceTimeline resolveTimeline() {
+        return PriceTimeline.of(prices);
+    }
+
+    @Benchmark
+    public Optional<Price> priceAt() {
+        return timeline.priceAt(applicationDate);
+    }
+}
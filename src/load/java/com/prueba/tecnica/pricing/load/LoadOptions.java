@@ -0,0 +1,103 @@
+package com.prueba.tecnica.pricing.load;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of a load test, given as {@code --name=value} arguments.
+ */
+record LoadOptions(
+        URI url,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Duration timeout,
+        long brandId,
+        long firstProductId,
+        int products,
+        String distribution,
+        double zipfExponent,
+        LocalDateTime from,
+        LocalDateTime to,
+        long seed,
+        boolean seedCatalog,
+        Path histogram) {
+
+    private static final Set<String> NAMES = Set.of("url", "rate", "duration", "warmup", "timeout", "brand",
+            "first-product", "products", "distribution", "zipf-exponent", "from", "to", "seed", "seed-catalog", "histogram");
+
+    static final String USAGE = """
+            Open-loop load test of GET /api/v1/prices. Options, with their defaults:
+              --url=http://localhost:8080      application under test
+              --rate=200                       requests started per second, whatever the response times
+              --duration=30s                   measured period
+              --warmup=5s                      period at the same rate before measuring
+              --timeout=5s                     request timeout
+              --brand=1                        brand of every request
+              --first-product=35455            first product id
+              --products=1                     number of consecutive product ids requested
+              --distribution=uniform           uniform, or zipf for a few hot products
+              --zipf-exponent=1.0              skew of the zipf distribution
+              --from=2020-06-14T00:00:00       application dates are uniform in [from, to)
+              --to=2021-01-01T00:00:00
+              --seed=42                        random seed of the product and date choices
+              --seed-catalog=false             import 4 overlapping prices for each product first
+                                               (needs pricing.import.http.enabled=true)
+              --histogram=                     file for the full corrected latency distribution
+            """;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0 || !NAMES.contains(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String histogram = values.getOrDefault("histogram", "");
+        LoadOptions options = new LoadOptions(
+                URI.create(values.getOrDefault("url", "http://localhost:8080")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                duration(values.getOrDefault("timeout", "5s")),
+                Long.parseLong(values.getOrDefault("brand", "1")),
+                Long.parseLong(values.getOrDefault("first-product", "35455")),
+                Integer.parseInt(values.getOrDefault("products", "1")),
+                values.getOrDefault("distribution", "uniform"),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "1.0")),
+                LocalDateTime.parse(values.getOrDefault("from", "2020-06-14T00:00:00")),
+                LocalDateTime.parse(values.getOrDefault("to", "2021-01-01T00:00:00")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Boolean.parseBoolean(values.getOrDefault("seed-catalog", "false")),
+                histogram.isEmpty() ? null : Path.of(histogram));
+        if (options.rate <= 0 || !options.from.isBefore(options.to)) {
+            throw new IllegalArgumentException("rate must be positive and from before to");
+        }
+        return options;
+    }
+
+    /**
+     * @param value a number followed by {@code ms}, {@code s} or {@code m}
+     */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Invalid duration " + value + ", expected e.g. 500ms, 30s or 2m");
+        };
+    }
+}
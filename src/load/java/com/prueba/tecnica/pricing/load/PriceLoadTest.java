@@ -0,0 +1,217 @@
+package com.prueba.tecnica.pricing.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-loop load generator for GET /api/v1/prices: {@code ./gradlew loadTest -Pload.args="--rate=500 ..."}.
+ * <p>
+ * Requests are started on a fixed schedule, one every 1/rate seconds, each on its own virtual thread,
+ * whether or not earlier requests have completed; a slow server therefore faces a growing number of
+ * concurrent requests, as it would with real users. The response time of a request is measured from
+ * its scheduled start rather than from the moment it was actually sent, which corrects for coordinated
+ * omission: a stall of the generator or of the server is charged to every request it delayed.
+ * The service time, measured from the actual send, is reported next to it for comparison.
+ */
+public final class PriceLoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadOptions options;
+    private final HttpClient client;
+    private final ProductDistribution products;
+    private final Recorder responseTimes = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder serviceTimes = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder otherStatus = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong maxDispatchLag = new AtomicLong();
+
+    private PriceLoadTest(LoadOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.products = ProductDistribution.of(options.distribution(), options.firstProductId(), options.products(),
+                options.zipfExponent());
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        new PriceLoadTest(options).run(System.out);
+    }
+
+    private void run(PrintStream out) throws Exception {
+        if (options.seedCatalog()) {
+            seedCatalog(out);
+        }
+        out.printf("Open-loop load: %d req/s for %d s after a %d s warm-up against %s%n",
+                options.rate(), options.duration().toSeconds(), options.warmup().toSeconds(), options.url());
+        out.printf("Keys: brand %d, %s, application dates uniform in [%s, %s)%n",
+                options.brandId(), products.describe(), options.from(), options.to());
+
+        long sent = drive();
+
+        Histogram response = responseTimes.getIntervalHistogram();
+        Histogram service = serviceTimes.getIntervalHistogram();
+        long completed = ok.sum() + notFound.sum() + otherStatus.sum();
+        out.println();
+        out.printf("Requests     %d sent, %d completed, %d failed (timeouts and connection errors)%n", sent, completed, failed.sum());
+        out.printf("Status       %d 2xx, %d 404, %d other%n", ok.sum(), notFound.sum(), otherStatus.sum());
+        out.printf("Throughput   %.1f req/s completed (target %d req/s)%n",
+                completed / (double) options.duration().toNanos() * 1e9, options.rate());
+        out.printf("Generator    max dispatch lag %.1f ms%n", maxDispatchLag.get() / 1e6);
+        out.println();
+        out.printf("Latency (ms)   %9s %9s %9s %9s %9s%n", "p50", "p90", "p99", "p99.9", "max");
+        printLatency(out, "response", response);
+        printLatency(out, "service", service);
+        out.println("response: from the scheduled start (corrected for coordinated omission); service: from the actual send");
+
+        if (options.histogram() != null) {
+            try (PrintStream file = new PrintStream(Files.newOutputStream(options.histogram()))) {
+                response.outputPercentileDistribution(file, 1000.0);
+            }
+            out.println("Corrected latency distribution (ms) written to " + options.histogram());
+        }
+    }
+
+    /**
+     * Start the requests on schedule until the end of the measured period, then wait for the outstanding ones.
+     *
+     * @return the number of requests started during the measured period
+     */
+    private long drive() throws InterruptedException {
+        double nanosPerRequest = 1e9 / options.rate();
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long fromSecond = options.from().toEpochSecond(ZoneOffset.UTC);
+        long seconds = options.to().toEpochSecond(ZoneOffset.UTC) - fromSecond;
+
+        long sent = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + (long) (i * nanosPerRequest);
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = scheduled >= measureStart;
+                URI uri = lookupUri(products.next(random), fromSecond + random.nextLong(seconds));
+                requests.execute(() -> send(uri, scheduled, measured));
+                maxDispatchLag.accumulateAndGet(System.nanoTime() - scheduled, Math::max);
+                if (measured) {
+                    sent++;
+                }
+            }
+        }
+        return sent;
+    }
+
+    private void send(URI uri, long scheduled, boolean measured) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(options.timeout()).GET().build();
+        long sentAt = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long now = System.nanoTime();
+        if (!measured) {
+            return;
+        }
+        responseTimes.recordValue(Math.min((now - scheduled) / 1000, HIGHEST_TRACKABLE_MICROS));
+        serviceTimes.recordValue(Math.min((now - sentAt) / 1000, HIGHEST_TRACKABLE_MICROS));
+        if (status < 0) {
+            failed.increment();
+        } else if (status / 100 == 2) {
+            ok.increment();
+        } else if (status == 404) {
+            notFound.increment();
+        } else {
+            otherStatus.increment();
+        }
+    }
+
+    private URI lookupUri(long productId, long epochSecond) {
+        LocalDateTime applicationDate = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        return options.url().resolve("/api/v1/prices?brandId=" + options.brandId() + "&productId=" + productId
+                + "&applicationDate=" + applicationDate);
+    }
+
+    /**
+     * Import the four overlapping price lists of the sample data for every requested product.
+     */
+    private void seedCatalog(PrintStream out) throws IOException, InterruptedException {
+        StringBuilder csv = new StringBuilder("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n");
+        for (long productId = options.firstProductId(); productId < options.firstProductId() + options.products(); productId++) {
+            long brandId = options.brandId();
+            csv.append(brandId).append(",2020-06-14 00:00:00,2020-12-31 23:59:59,1,").append(productId).append(",0,35.50,EUR\n")
+                    .append(brandId).append(",2020-06-14 15:00:00,2020-06-14 18:30:00,2,").append(productId).append(",1,25.45,EUR\n")
+                    .append(brandId).append(",2020-06-15 00:00:00,2020-06-15 11:00:00,3,").append(productId).append(",1,30.50,EUR\n")
+                    .append(brandId).append(",2020-06-15 16:00:00,2020-12-31 23:59:59,4,").append(productId).append(",1,38.95,EUR\n");
+        }
+        HttpRequest request = HttpRequest.newBuilder(options.url().resolve("/api/v1/admin/prices/import"))
+                .header("Content-Type", "text/csv")
+                .timeout(Duration.ofMinutes(5))
+                .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Catalog import answered " + response.statusCode() + ": " + response.body());
+        }
+        out.println("Seeded " + options.products() + " products: " + response.body());
+    }
+
+    private static void printLatency(PrintStream out, String label, Histogram histogram) {
+        out.printf("  %-12s", label);
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(" %9.2f%n", histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.prueba.tecnica.pricing.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks the product of each request among {@code count} consecutive product ids.
+ * {@code uniform} gives every product the same weight; {@code zipf} gives the product of rank k a weight
+ * of 1/k^exponent, so a few hot products receive most of the traffic, as in a real catalog.
+ */
+abstract class ProductDistribution {
+
+    protected final long firstProductId;
+    protected final int count;
+
+    private ProductDistribution(long firstProductId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("products must be positive");
+        }
+        this.firstProductId = firstProductId;
+        this.count = count;
+    }
+
+    /**
+     * @param name {@code uniform} or {@code zipf}
+     * @param firstProductId the first product id
+     * @param count the number of products
+     * @param exponent the Zipf exponent; ignored by the uniform distribution
+     * @return the distribution
+     */
+    static ProductDistribution of(String name, long firstProductId, int count, double exponent) {
+        return switch (name) {
+            case "uniform" -> new Uniform(firstProductId, count);
+            case "zipf" -> new Zipf(firstProductId, count, exponent);
+            default -> throw new IllegalArgumentException("Unknown distribution " + name + ", expected uniform or zipf");
+        };
+    }
+
+    /**
+     * @param random the random source of the calling thread
+     * @return the product id of the next request
+     */
+    abstract long next(SplittableRandom random);
+
+    abstract String describe();
+
+    private static final class Uniform extends ProductDistribution {
+
+        Uniform(long firstProductId, int count) {
+            super(firstProductId, count);
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            return firstProductId + random.nextInt(count);
+        }
+
+        @Override
+        String describe() {
+            return "uniform over " + count + " products";
+        }
+    }
+
+    /**
+     * Samples the rank by binary search over the cumulative weights, computed once.
+     */
+    private static final class Zipf extends ProductDistribution {
+
+        private final double exponent;
+        private final double[] cumulative;
+
+        Zipf(long firstProductId, int count, double exponent) {
+            super(firstProductId, count);
+            this.exponent = exponent;
+            this.cumulative = new double[count];
+            double total = 0;
+            for (int rank = 0; rank < count; rank++) {
+                total += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            for (int rank = 0; rank < count; rank++) {
+                cumulative[rank] /= total;
+            }
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int rank = index >= 0 ? index : Math.min(-index - 1, count - 1);
+            return firstProductId + rank;
+        }
+
+        @Override
+        String describe() {
+            return String.format("zipf(%.2f) over %d products, top product %.1f%% of requests",
+                    exponent, count, cumulative[0] * 100);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.prueba.tecnica.pricing.application.cli;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.application.csv.PriceCsvReader;
+import com.prueba.tecnica.pricing.domain.model.PriceImportReport;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports a price CSV file at startup when {@code pricing.import.file} is set:
+ * {@code java -jar pricing.jar --pricing.import.file=prices.csv}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceImportRunner implements ApplicationRunner {
+
+    private final PriceImportUseCase priceImportUseCase;
+
+    @Value("${pricing.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Importing prices from {}", file);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             Stream<PriceImportRow> rows = PriceCsvReader.read(reader)) {
+            PriceImportReport report = priceImportUseCase.importPrices(rows);
+            log.info("Imported {} prices from {}, rejected {} rows, {} rows/s in {} ms",
+                    report.getAcceptedRows(), file, report.getRejectedRows(), report.getRowsPerSecond(), report.getElapsedMillis());
+            report.getRejections().forEach(rejection -> log.warn("Rejected {}", rejection));
+        }
+    }
+}
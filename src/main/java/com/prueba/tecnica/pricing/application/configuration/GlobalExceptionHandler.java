@@ -1,7 +1,11 @@
 package com.prueba.tecnica.pricing.application.configuration;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -11,6 +15,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import com.prueba.tecnica.pricing.application.dto.ApiErrorResponse;
 import com.prueba.tecnica.pricing.application.exception.InvalidDateRangeException;
 import com.prueba.tecnica.pricing.application.exception.PriceQueryException;
+import com.prueba.tecnica.pricing.domain.exception.InvalidPriceException;
 import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +23,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
 public class GlobalExceptionHandler {
 
@@ -77,6 +83,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiErrorResponse> handleArgumentNotValid(MethodArgumentNotValidException e, HttpServletRequest request) {
+        log.warn("Request body validation error: {} invalid fields", e.getErrorCount());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message("Invalid input parameters")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiErrorResponse> handleNotReadable(HttpMessageNotReadableException e, HttpServletRequest request) {
+        log.warn("Unreadable request body: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Parameter")
+                .message("Invalid parameter format")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiErrorResponse> handleMissingParameter(MissingServletRequestParameterException e, HttpServletRequest request) {
         log.warn("Missing parameter error: {}", e.getMessage());
@@ -91,6 +125,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidPriceException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPrice(InvalidPriceException e, HttpServletRequest request) {
+        log.warn("Invalid price: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Price")
+                .message(e.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(PriceQueryException.class)
     public ResponseEntity<ApiErrorResponse> handlePriceQuery(PriceQueryException e, HttpServletRequest request) {
         log.error("Price query error: {}", e.getMessage(), e);
@@ -107,7 +155,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(PriceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handlePriceNotFound(PriceNotFoundException e, HttpServletRequest request) {
-        log.info("Price not found: {}", e.getMessage());
+        log.debug("Price not found: {}", e.getMessage());
         
         ApiErrorResponse errorResponse = ApiErrorResponse.builder()
                 .status(HttpStatus.NOT_FOUND.value())
@@ -119,6 +167,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(TransientDataAccessException.class)
+    public ResponseEntity<ApiErrorResponse> handleTransientDataAccess(TransientDataAccessException e, HttpServletRequest request) {
+        log.warn("Transient data access error: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("The service is overloaded, please retry")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGenericException(Exception e, HttpServletRequest request) {
         log.error("Unexpected error: {}", e.getMessage(), e);
@@ -0,0 +1,95 @@
+package com.prueba.tecnica.pricing.application.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.prueba.tecnica.pricing.application.dto.ApiErrorResponse;
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Error responses of the reactive stack, with the same statuses and bodies as {@link GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiErrorResponse> handleMethodValidation(HandlerMethodValidationException e, ServerHttpRequest request) {
+        log.warn("Method validation error: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message("Invalid input parameters")
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiErrorResponse> handleInput(ServerWebInputException e, ServerHttpRequest request) {
+        log.warn("Invalid parameter error: {}", e.getReason());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Parameter")
+                .message("Invalid parameter format")
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    @ExceptionHandler(PriceNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handlePriceNotFound(PriceNotFoundException e, ServerHttpRequest request) {
+        log.debug("Price not found: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Not Found")
+                .message("Requested price information not found")
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(TransientDataAccessException.class)
+    public ResponseEntity<ApiErrorResponse> handleTransientDataAccess(TransientDataAccessException e, ServerHttpRequest request) {
+        log.warn("Transient data access error: {}", e.getMessage());
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("The service is overloaded, please retry")
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiErrorResponse> handleGenericException(Exception e, ServerHttpRequest request) {
+        log.error("Unexpected error: {}", e.getMessage(), e);
+
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .error("Internal Error")
+                .message("An unexpected error occurred")
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+}
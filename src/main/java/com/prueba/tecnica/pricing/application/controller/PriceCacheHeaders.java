@@ -0,0 +1,100 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.application.mapper.PriceResponseMapper;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+
+/**
+ * HTTP caching validators and freshness of a resolved price.
+ * <p>
+ * The ETag is strong: it hashes every field written in the response body, so equal tags mean
+ * byte-identical bodies. The freshness is the time left in the resolved timeline segment after the
+ * application date, which for a query at the current instant is the time until another price takes
+ * over, capped so that a price changed by an import is not hidden from caches for longer than the cap.
+ */
+final class PriceCacheHeaders {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private PriceCacheHeaders() {
+    }
+
+    /**
+     * Build the 200 response of a resolved price with its validators and freshness headers.
+     * Spring answers a GET whose If-None-Match holds the ETag with 304 instead, without writing the body.
+     *
+     * @param priceResult the resolved price
+     * @param applicationDate the queried date, in epoch microseconds
+     * @param maxAgeCap the longest freshness allowed
+     * @return the response carrying ETag, Cache-Control and Expires
+     */
+    static ResponseEntity<PriceResponseDto> toCacheableResponse(PriceResult priceResult, long applicationDate,
+            Duration maxAgeCap) {
+        Duration maxAge = maxAge(priceResult, applicationDate, maxAgeCap);
+        return ResponseEntity.ok()
+                .eTag(eTag(priceResult))
+                .cacheControl(cacheControl(maxAge))
+                .headers(headers -> headers.setExpires(System.currentTimeMillis() + maxAge.toMillis()))
+                .body(PriceResponseMapper.toDto(priceResult));
+    }
+
+    /**
+     * @param priceResult the resolved price
+     * @return the quoted strong entity tag of the response body of the price
+     */
+    static String eTag(PriceResult priceResult) {
+        long hash = mix(0L, priceResult.getBrandId());
+        hash = mix(hash, priceResult.getProductId());
+        hash = mix(hash, priceResult.getPriceList());
+        hash = mix(hash, priceResult.getStartDate());
+        hash = mix(hash, priceResult.getEndDate());
+        hash = mix(hash, priceResult.getPrice());
+        hash = mix(hash, priceResult.getCurrency().hashCode());
+        String hex = Long.toHexString(finish(hash));
+        return "\"" + "0".repeat(16 - hex.length()) + hex + "\"";
+    }
+
+    /**
+     * @param priceResult the resolved price
+     * @param applicationDate the queried date, in epoch microseconds
+     * @param maxAgeCap the longest freshness allowed
+     * @return how long the response stays fresh; zero when the validity of the price is unknown
+     */
+    static Duration maxAge(PriceResult priceResult, long applicationDate, Duration maxAgeCap) {
+        if (priceResult.getValidUntil() == PriceResult.UNKNOWN_VALIDITY || priceResult.getValidUntil() <= applicationDate) {
+            return Duration.ZERO;
+        }
+        long remainingSeconds = (priceResult.getValidUntil() - applicationDate) / MICROS_PER_SECOND;
+        return Duration.ofSeconds(Math.min(remainingSeconds, maxAgeCap.toSeconds()));
+    }
+
+    /**
+     * @param maxAge how long the response stays fresh
+     * @return the Cache-Control of a response shareable by any cache for that long
+     */
+    static CacheControl cacheControl(Duration maxAge) {
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+    }
+
+    /**
+     * Final avalanche of MurmurHash3, so that close field values give unrelated tags.
+     */
+    private static long finish(long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,16 +1,31 @@
 package com.prueba.tecnica.pricing.application.controller;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.prueba.tecnica.pricing.application.dto.BatchPriceItemDto;
+import com.prueba.tecnica.pricing.application.dto.BatchPriceRequestDto;
+import com.prueba.tecnica.pricing.application.dto.BatchPriceResponseDto;
+import com.prueba.tecnica.pricing.application.dto.PriceQueryDto;
 import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.application.mapper.PriceResponseMapper;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
 import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
 import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,22 +35,29 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * REST controller for price queries.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/prices")
-@RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Price Management", description = "APIs for querying product prices")
 public class PriceController {
     
     private final PriceQueryUseCase priceQueryUseCase;
+    private final Duration maxAgeCap;
+
+    public PriceController(PriceQueryUseCase priceQueryUseCase,
+            @Value("${pricing.http.max-age-cap:PT1H}") Duration maxAgeCap) {
+        this.priceQueryUseCase = priceQueryUseCase;
+        this.maxAgeCap = maxAgeCap;
+    }
     
     /**
      * Get applicable price for a product at a specific date and brand.
@@ -43,7 +65,8 @@ public class PriceController {
      * @param brandId Brand identifier
      * @param productId Product identifier  
      * @param applicationDate Date for price applicability (format: yyyy-MM-dd'T'HH:mm:ss)
-     * @return Price information if found
+     * @return Price information if found, with a strong ETag and a freshness bounded by the validity
+     *         of the price; a request whose If-None-Match holds the ETag is answered 304 without a body
      */
     @Operation(
         summary = "Get applicable price for a product",
@@ -54,12 +77,17 @@ public class PriceController {
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Price found successfully",
+            description = "Price found successfully; carries ETag, Cache-Control and Expires headers",
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = PriceResponseDto.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "The price matches the ETag sent in If-None-Match",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request parameters",
@@ -119,18 +147,72 @@ public class PriceController {
         
         log.info("Requesting price for brandId: {}, productId: {}, date: {}", brandId, productId, applicationDate);
 
-        return ResponseEntity.ok(mapToResponseDto(priceQueryUseCase.getApplicablePrice(brandId, productId, applicationDate)));
+        long applicationInstant = PriceUnits.toEpochMicros(applicationDate);
+        PriceResult priceResult = priceQueryUseCase.getApplicablePrice(brandId, productId, applicationInstant);
+        return PriceCacheHeaders.toCacheableResponse(priceResult, applicationInstant, maxAgeCap);
     }
     
-    private PriceResponseDto mapToResponseDto(PriceResult priceResult) {
-        return PriceResponseDto.builder()
-                .productId(priceResult.getProductId())
-                .brandId(priceResult.getBrandId())
-                .priceList(priceResult.getPriceList())
-                .startDate(priceResult.getStartDate())
-                .endDate(priceResult.getEndDate())
-                .price(priceResult.getPrice())
-                .currency(priceResult.getCurrency())
-                .build();
+    /**
+     * Get applicable prices for a batch of product, brand and date lookups.
+     * 
+     * @param request Lookups to resolve, at most {@value BatchPriceRequestDto#MAX_QUERIES}
+     * @return One result per lookup, in request order; lookups without a price are reported as not found
+     */
+    @Operation(
+        summary = "Get applicable prices for a batch of lookups",
+        description = "Resolves up to " + BatchPriceRequestDto.MAX_QUERIES + " product, brand and date lookups in a single call. " +
+                     "Lookups without an applicable price are returned with found=false instead of failing the batch.",
+        tags = "Price Management"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch resolved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BatchPriceResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request body",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(
+                    example = "{\"message\": \"Invalid input parameters\"}"
+                )
+            )
+        )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchPriceResponseDto> getApplicablePrices(@RequestBody @Valid BatchPriceRequestDto request) {
+
+        log.info("Requesting batch of {} prices", request.getQueries().size());
+
+        List<Optional<PriceResult>> priceResults = priceQueryUseCase.getApplicablePrices(toPriceQueries(request));
+        return ResponseEntity.ok(toBatchResponseDto(request, priceResults));
+    }
+
+    private static List<PriceQuery> toPriceQueries(BatchPriceRequestDto request) {
+        return request.getQueries().stream()
+                .map(query -> new PriceQuery(query.getBrandId(), query.getProductId(),
+                        PriceUnits.toEpochMicros(query.getApplicationDate())))
+                .toList();
+    }
+
+    private static BatchPriceResponseDto toBatchResponseDto(BatchPriceRequestDto request, List<Optional<PriceResult>> priceResults) {
+        List<BatchPriceItemDto> results = new ArrayList<>(priceResults.size());
+        for (int i = 0; i < priceResults.size(); i++) {
+            PriceQueryDto query = request.getQueries().get(i);
+            Optional<PriceResult> priceResult = priceResults.get(i);
+            results.add(BatchPriceItemDto.builder()
+                    .brandId(query.getBrandId())
+                    .productId(query.getProductId())
+                    .applicationDate(query.getApplicationDate())
+                    .found(priceResult.isPresent())
+                    .price(priceResult.map(PriceResponseMapper::toDto).orElse(null))
+                    .build());
+        }
+        return BatchPriceResponseDto.builder().results(results).build();
     }
 }
@@ -0,0 +1,77 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prueba.tecnica.pricing.application.csv.PriceCsvReader;
+import com.prueba.tecnica.pricing.application.dto.PriceImportReportDto;
+import com.prueba.tecnica.pricing.domain.model.PriceImportReport;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for bulk price imports.
+ * The endpoint writes to PRICES without authentication, so it is only registered when
+ * {@code pricing.import.http.enabled} is set to {@code true}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.import.http.enabled", havingValue = "true")
+@RequestMapping("/api/v1/admin/prices")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Price Administration", description = "APIs for loading product prices")
+public class PriceImportController {
+
+    private final PriceImportUseCase priceImportUseCase;
+
+    /**
+     * Import the prices of a CSV request body, streamed as it is read.
+     *
+     * @param body CSV with the columns BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+     * @return Accepted and rejected rows and the import throughput
+     */
+    @Operation(
+        summary = "Bulk import prices from CSV",
+        description = "Streams a CSV body with the columns of the PRICES table and inserts the valid rows in JDBC batches. " +
+                     "Invalid rows are rejected and reported without stopping the import.",
+        tags = "Price Administration"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished")
+    })
+    @PostMapping(path = "/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<PriceImportReportDto> importPrices(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+             Stream<PriceImportRow> rows = PriceCsvReader.read(reader)) {
+            PriceImportReport report = priceImportUseCase.importPrices(rows);
+            log.info("Imported {} prices, rejected {} rows, {} rows/s",
+                    report.getAcceptedRows(), report.getRejectedRows(), report.getRowsPerSecond());
+            return ResponseEntity.ok(PriceImportReportDto.builder()
+                    .acceptedRows(report.getAcceptedRows())
+                    .rejectedRows(report.getRejectedRows())
+                    .elapsedMillis(report.getElapsedMillis())
+                    .rowsPerSecond(report.getRowsPerSecond())
+                    .rejections(report.getRejections())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.prueba.tecnica.pricing.application.dto.PriceTimelineSegmentDto;
+import com.prueba.tecnica.pricing.application.exception.InvalidDateRangeException;
+import com.prueba.tecnica.pricing.application.mapper.PriceTimelineMapper;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceTimelineUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for effective price timelines.
+ * Segments are written as newline-delimited JSON while the prices are read from the database, so
+ * the response of a long period or a whole brand is never buffered.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/prices")
+@Slf4j
+@Tag(name = "Price Management", description = "APIs for querying product prices")
+public class PriceTimelineController {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PriceTimelineUseCase priceTimelineUseCase;
+    private final ObjectWriter segmentWriter;
+
+    public PriceTimelineController(PriceTimelineUseCase priceTimelineUseCase, ObjectMapper objectMapper) {
+        this.priceTimelineUseCase = priceTimelineUseCase;
+        this.segmentWriter = objectMapper.writerFor(PriceTimelineSegmentDto.class);
+    }
+
+    /**
+     * Stream the effective prices of a product, or of every product of a brand, over a period.
+     *
+     * @param brandId Brand identifier
+     * @param productId Product identifier; every product of the brand when absent
+     * @param from Start of the period, inclusive
+     * @param to End of the period, exclusive
+     * @return One JSON segment per line, by product and then by start, cut to the period
+     */
+    @Operation(
+        summary = "Stream the effective price timeline of a product or brand",
+        description = "Returns the non-overlapping segments left after priority resolution between from and to, " +
+                     "as newline-delimited JSON. Each segment applies from start, inclusive, to end, exclusive. " +
+                     "Without productId, the segments of every product of the brand are returned, by product id.",
+        tags = "Price Management"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline streamed; empty when no price applies in the period",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                schema = @Schema(implementation = PriceTimelineSegmentDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters, or from not before to",
+            content = @Content
+        )
+    })
+    @GetMapping("/timeline")
+    public ResponseEntity<StreamingResponseBody> getTimeline(
+            @Parameter(description = "Brand identifier. Must be a non-negative number.", required = true, example = "1")
+            @RequestParam @NotNull @Min(0) Long brandId,
+
+            @Parameter(description = "Product identifier. Omit it for the timeline of every product of the brand.", example = "35455")
+            @RequestParam(required = false) @Min(0) Long productId,
+
+            @Parameter(description = "Start of the period, inclusive (yyyy-MM-dd'T'HH:mm:ss).", required = true, example = "2020-06-14T00:00:00")
+            @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "End of the period, exclusive (yyyy-MM-dd'T'HH:mm:ss).", required = true, example = "2020-06-16T00:00:00")
+            @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        log.info("Requesting timeline for brandId: {}, productId: {}, from: {}, to: {}", brandId, productId, from, to);
+
+        long fromInstant = PriceUnits.toEpochMicros(from);
+        long toInstant = PriceUnits.toEpochMicros(to);
+        if (fromInstant >= toInstant) {
+            throw new InvalidDateRangeException("from " + from + " is not before to " + to);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            try {
+                if (productId != null) {
+                    priceTimelineUseCase.streamTimeline(brandId, productId, fromInstant, toInstant, segment -> writeLine(out, segment));
+                } else {
+                    priceTimelineUseCase.streamBrandTimeline(brandId, fromInstant, toInstant, segment -> writeLine(out, segment));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream out, PriceSegment segment) {
+        try {
+            out.write(segmentWriter.writeValueAsBytes(PriceTimelineMapper.toDto(segment)));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.net.URI;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prueba.tecnica.pricing.application.dto.PriceWriteRequestDto;
+import com.prueba.tecnica.pricing.application.dto.StoredPriceDto;
+import com.prueba.tecnica.pricing.application.mapper.StoredPriceMapper;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceManagementUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller for creating, updating and deleting single price rows while the service runs.
+ * Each write only refreshes the cached prices of the affected brand and product.
+ * The endpoints write to PRICES without authentication, so they are only registered when
+ * {@code pricing.write.http.enabled} is set to {@code true}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "pricing.write.http.enabled", havingValue = "true")
+@RequestMapping("/api/v1/admin/prices")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Price Administration", description = "APIs for loading product prices")
+public class PriceWriteController {
+
+    private final PriceManagementUseCase priceManagementUseCase;
+
+    /**
+     * Get a stored price row.
+     *
+     * @param id Row identifier
+     * @return The stored row
+     */
+    @Operation(summary = "Get a price row", tags = "Price Administration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Price row found"),
+        @ApiResponse(responseCode = "404", description = "No price row with the given id")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<StoredPriceDto> getPrice(@PathVariable long id) {
+        return ResponseEntity.ok(StoredPriceMapper.toDto(priceManagementUseCase.getPrice(id)));
+    }
+
+    /**
+     * Create a price row.
+     *
+     * @param request The price to store
+     * @return The stored row, located by its generated id
+     */
+    @Operation(
+        summary = "Create a price row",
+        description = "Stores a new price. Lookups of its brand and product see it as soon as the call returns.",
+        tags = "Price Administration"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Price row created"),
+        @ApiResponse(responseCode = "400", description = "Invalid price")
+    })
+    @PostMapping
+    public ResponseEntity<StoredPriceDto> createPrice(@RequestBody @Valid PriceWriteRequestDto request) {
+        StoredPrice created = priceManagementUseCase.createPrice(StoredPriceMapper.toDomain(request));
+        log.info("Created price {} for brandId: {}, productId: {}", created.id(), request.getBrandId(), request.getProductId());
+        return ResponseEntity.created(URI.create("/api/v1/admin/prices/" + created.id()))
+                .body(StoredPriceMapper.toDto(created));
+    }
+
+    /**
+     * Replace a price row.
+     *
+     * @param id Row identifier
+     * @param request The new price of the row
+     * @return The updated row
+     */
+    @Operation(
+        summary = "Replace a price row",
+        description = "Replaces every column of a price row. If the brand or product changes, both products are refreshed.",
+        tags = "Price Administration"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Price row updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid price"),
+        @ApiResponse(responseCode = "404", description = "No price row with the given id")
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<StoredPriceDto> updatePrice(@PathVariable long id, @RequestBody @Valid PriceWriteRequestDto request) {
+        StoredPrice updated = priceManagementUseCase.updatePrice(id, StoredPriceMapper.toDomain(request));
+        log.info("Updated price {}", id);
+        return ResponseEntity.ok(StoredPriceMapper.toDto(updated));
+    }
+
+    /**
+     * Delete a price row.
+     *
+     * @param id Row identifier
+     * @return No content
+     */
+    @Operation(summary = "Delete a price row", tags = "Price Administration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Price row deleted"),
+        @ApiResponse(responseCode = "404", description = "No price row with the given id")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletePrice(@PathVariable long id) {
+        priceManagementUseCase.deletePrice(id);
+        log.info("Deleted price {}", id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.ReactivePriceQueryUseCase;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for price queries, served by WebFlux when the application runs as a
+ * reactive web application (the {@code reactive} profile). It answers the same requests as
+ * {@link PriceController}, with the same body, validators and freshness headers.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/prices")
+@Slf4j
+public class ReactivePriceController {
+
+    private final ReactivePriceQueryUseCase reactivePriceQueryUseCase;
+    private final Duration maxAgeCap;
+
+    public ReactivePriceController(ReactivePriceQueryUseCase reactivePriceQueryUseCase,
+            @Value("${pricing.http.max-age-cap:PT1H}") Duration maxAgeCap) {
+        this.reactivePriceQueryUseCase = reactivePriceQueryUseCase;
+        this.maxAgeCap = maxAgeCap;
+    }
+
+    /**
+     * Get applicable price for a product at a specific date and brand.
+     *
+     * @param brandId Brand identifier
+     * @param productId Product identifier
+     * @param applicationDate Date for price applicability (format: yyyy-MM-dd'T'HH:mm:ss)
+     * @return Price information if found, with the same caching headers as {@link PriceController}
+     */
+    @GetMapping
+    public Mono<ResponseEntity<PriceResponseDto>> getApplicablePrice(
+            @RequestParam @NotNull @Min(0) Long brandId,
+            @RequestParam @NotNull @Min(0) Long productId,
+            @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
+
+        log.info("Requesting price for brandId: {}, productId: {}, date: {}", brandId, productId, applicationDate);
+
+        long applicationInstant = PriceUnits.toEpochMicros(applicationDate);
+        return Mono.fromCompletionStage(() -> reactivePriceQueryUseCase.getApplicablePrice(brandId, productId, applicationInstant))
+                .map(priceResult -> PriceCacheHeaders.toCacheableResponse(priceResult, applicationInstant, maxAgeCap));
+    }
+}
@@ -0,0 +1,281 @@
+package com.prueba.tecnica.pricing.application.converter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+
+/**
+ * Writes {@link PriceResponseDto} as JSON without Jackson, byte for byte as the auto-configured
+ * {@code ObjectMapper} does: fields in declaration order, dates as ISO-8601 local date-times and
+ * amounts as {@link BigDecimal#toString()}. Field names are encoded once, and dates and amounts are
+ * written digit by digit into the output buffer. Values outside the fast paths (years beyond 9999,
+ * amounts in scientific notation, currencies needing escapes) fall back to the same formatting as Jackson.
+ * <p>
+ * Each distinct response, that is each resolved price segment, is cached already encoded, up to
+ * {@code pricing.response.encoded-cache-size} entries (0 disables it), so repeated hits skip the encoding.
+ * Responses are keyed by value, so a changed price never reuses the bytes of the old one.
+ * <p>
+ * Registered as a bean, it is placed before the default converters. Only writing is supported;
+ * clients keep reading the response with Jackson.
+ */
+@Component
+public class PriceResponseHttpMessageConverter extends AbstractHttpMessageConverter<PriceResponseDto> {
+
+    private static final byte[] PRODUCT_ID = ascii("{\"productId\":");
+    private static final byte[] BRAND_ID = ascii(",\"brandId\":");
+    private static final byte[] PRICE_LIST = ascii(",\"priceList\":");
+    private static final byte[] START_DATE = ascii(",\"startDate\":");
+    private static final byte[] END_DATE = ascii(",\"endDate\":");
+    private static final byte[] PRICE = ascii(",\"price\":");
+    private static final byte[] CURRENCY = ascii(",\"currency\":");
+    private static final byte[] NULL = ascii("null");
+
+    /**
+     * Largest amount scale written by the fast path; {@link BigDecimal#toString()} only switches to
+     * scientific notation for larger scales.
+     */
+    private static final int MAX_PLAIN_SCALE = 6;
+
+    private static final int INITIAL_BUFFER_SIZE = 192;
+
+    @Nullable
+    private final Cache<PriceResponseDto, byte[]> encoded;
+
+    public PriceResponseHttpMessageConverter(@Value("${pricing.response.encoded-cache-size:10000}") long encodedCacheSize) {
+        super(MediaType.APPLICATION_JSON);
+        this.encoded = encodedCacheSize > 0 ? Caffeine.newBuilder().maximumSize(encodedCacheSize).build() : null;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PriceResponseDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PriceResponseDto readInternal(Class<? extends PriceResponseDto> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Price responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PriceResponseDto response, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = encoded != null ? encoded.get(response, PriceResponseHttpMessageConverter::encode) : encode(response);
+        outputMessage.getBody().write(body);
+    }
+
+    @Override
+    protected Long getContentLength(PriceResponseDto response, @Nullable MediaType contentType) {
+        return encoded != null ? (long) encoded.get(response, PriceResponseHttpMessageConverter::encode).length : null;
+    }
+
+    /**
+     * @param response the response to encode
+     * @return the UTF-8 JSON of the response
+     */
+    public static byte[] encode(PriceResponseDto response) {
+        Buffer buffer = new Buffer();
+        buffer.write(PRODUCT_ID);
+        buffer.writeLong(response.getProductId());
+        buffer.write(BRAND_ID);
+        buffer.writeLong(response.getBrandId());
+        buffer.write(PRICE_LIST);
+        buffer.writeLong(response.getPriceList());
+        buffer.write(START_DATE);
+        buffer.writeDate(response.getStartDate());
+        buffer.write(END_DATE);
+        buffer.writeDate(response.getEndDate());
+        buffer.write(PRICE);
+        buffer.writeAmount(response.getPrice());
+        buffer.write(CURRENCY);
+        buffer.writeString(response.getCurrency());
+        buffer.writeByte('}');
+        return buffer.toByteArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Buffer {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int size;
+
+        void write(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        void writeByte(char value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeLong(@Nullable Long value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            long remaining = value;
+            if (remaining == Long.MIN_VALUE) {
+                write(ascii(Long.toString(remaining)));
+                return;
+            }
+            if (remaining < 0) {
+                writeByte('-');
+                remaining = -remaining;
+            }
+            writeDigits(remaining, digitCount(remaining));
+        }
+
+        /**
+         * Same output as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: seconds always present and the
+         * fraction, if any, without trailing zeros.
+         */
+        void writeDate(@Nullable LocalDateTime value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            if (value.getYear() < 0 || value.getYear() > 9999) {
+                writeQuotedAscii(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+                return;
+            }
+            ensureCapacity(31);
+            bytes[size++] = '"';
+            writeDigits(value.getYear(), 4);
+            bytes[size++] = '-';
+            writeDigits(value.getMonthValue(), 2);
+            bytes[size++] = '-';
+            writeDigits(value.getDayOfMonth(), 2);
+            bytes[size++] = 'T';
+            writeDigits(value.getHour(), 2);
+            bytes[size++] = ':';
+            writeDigits(value.getMinute(), 2);
+            bytes[size++] = ':';
+            writeDigits(value.getSecond(), 2);
+            int nano = value.getNano();
+            if (nano != 0) {
+                int digits = 9;
+                while (nano % 10 == 0) {
+                    nano /= 10;
+                    digits--;
+                }
+                bytes[size++] = '.';
+                writeDigits(nano, digits);
+            }
+            bytes[size++] = '"';
+        }
+
+        /**
+         * Same output as {@link BigDecimal#toString()}, which Jackson writes for amounts.
+         */
+        void writeAmount(@Nullable BigDecimal value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            int scale = value.scale();
+            BigInteger unscaled = value.unscaledValue();
+            if (scale < 0 || scale > MAX_PLAIN_SCALE || unscaled.bitLength() >= Long.SIZE - 1) {
+                write(ascii(value.toString()));
+                return;
+            }
+            long remaining = unscaled.longValue();
+            if (remaining < 0) {
+                writeByte('-');
+                remaining = -remaining;
+            }
+            long divisor = 1;
+            for (int i = 0; i < scale; i++) {
+                divisor *= 10;
+            }
+            long integer = remaining / divisor;
+            writeDigits(integer, digitCount(integer));
+            if (scale > 0) {
+                writeByte('.');
+                writeDigits(remaining % divisor, scale);
+            }
+        }
+
+        void writeString(@Nullable String value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x20 || c >= 0x7f || c == '"' || c == '\\') {
+                    writeByte('"');
+                    write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+                    writeByte('"');
+                    return;
+                }
+            }
+            writeQuotedAscii(value);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void writeQuotedAscii(String value) {
+            ensureCapacity(value.length() + 2);
+            bytes[size++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+            bytes[size++] = '"';
+        }
+
+        /**
+         * Write the last {@code digits} decimal digits of a non-negative value, zero-padded.
+         */
+        private void writeDigits(long value, int digits) {
+            ensureCapacity(digits);
+            long remaining = value;
+            for (int i = size + digits - 1; i >= size; i--) {
+                bytes[i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            size += digits;
+        }
+
+        private static int digitCount(long value) {
+            int digits = 1;
+            for (long remaining = value; remaining >= 10; remaining /= 10) {
+                digits++;
+            }
+            return digits;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.prueba.tecnica.pricing.application.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceRules;
+
+/**
+ * Lazy reader of price CSV files with the columns of the PRICES table:
+ * {@code BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR}.
+ * Dates use {@code yyyy-MM-dd HH:mm:ss} or ISO {@code yyyy-MM-dd'T'HH:mm:ss}. An optional header line
+ * and blank lines are skipped. Lines are parsed one at a time as the stream is consumed; amounts and
+ * currencies the PRICES table cannot store are reported as unparseable rows.
+ */
+public final class PriceCsvReader {
+
+    private static final int COLUMNS = 8;
+
+    private PriceCsvReader() {
+    }
+
+    /**
+     * @param reader the CSV source; the caller closes it once the stream is consumed
+     * @return the rows of the source, unparseable lines included with the reason
+     */
+    public static Stream<PriceImportRow> read(BufferedReader reader) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<PriceImportRow>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private long lineNumber;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super PriceImportRow> action) {
+                String line;
+                do {
+                    line = readLine(reader);
+                    if (line == null) {
+                        return false;
+                    }
+                    lineNumber++;
+                } while (line.isBlank() || (lineNumber == 1 && line.regionMatches(true, 0, "BRAND_ID", 0, 8)));
+
+                action.accept(parse(lineNumber, line));
+                return true;
+            }
+        }, false);
+    }
+
+    static PriceImportRow parse(long lineNumber, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMNS) {
+            return PriceImportRow.unparseable(lineNumber, "expected " + COLUMNS + " columns but found " + columns.length);
+        }
+        Price price;
+        try {
+            BigDecimal amount = new BigDecimal(columns[6].trim());
+            String currency = columns[7].trim();
+            PriceRules.validateAmount(amount, currency);
+            price = Price.of(
+                    Long.parseLong(columns[0].trim()),
+                    parseDate(columns[1]),
+                    parseDate(columns[2]),
+                    Long.parseLong(columns[3].trim()),
+                    Long.parseLong(columns[4].trim()),
+                    Integer.parseInt(columns[5].trim()),
+                    amount,
+                    currency);
+        } catch (NumberFormatException | DateTimeParseException | ArithmeticException e) {
+            return PriceImportRow.unparseable(lineNumber, "invalid value: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return PriceImportRow.unparseable(lineNumber, e.getMessage());
+        }
+        return PriceImportRow.parsed(lineNumber, price);
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        String date = value.trim();
+        if (date.length() > 10 && date.charAt(10) == ' ') {
+            date = date.substring(0, 10) + 'T' + date.substring(11);
+        }
+        return LocalDateTime.parse(date);
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for the result of a single lookup of a batch price query.
+ * {@code price} is only present when {@code found} is true.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchPriceItemDto {
+    Long brandId;
+    Long productId;
+    LocalDateTime applicationDate;
+    boolean found;
+    PriceResponseDto price;
+}
@@ -0,0 +1,26 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for batch price query request.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BatchPriceRequestDto {
+
+    public static final int MAX_QUERIES = 500;
+
+    @NotEmpty
+    @Size(max = MAX_QUERIES)
+    List<@Valid @NotNull PriceQueryDto> queries;
+}
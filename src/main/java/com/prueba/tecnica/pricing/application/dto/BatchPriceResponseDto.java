@@ -0,0 +1,15 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for batch price query response. Results keep the order of the requested queries.
+ */
+@Value
+@Builder
+public class BatchPriceResponseDto {
+    List<BatchPriceItemDto> results;
+}
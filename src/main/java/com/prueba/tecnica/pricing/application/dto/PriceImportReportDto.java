@@ -0,0 +1,19 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for bulk price import response.
+ */
+@Value
+@Builder
+public class PriceImportReportDto {
+    long acceptedRows;
+    long rejectedRows;
+    long elapsedMillis;
+    long rowsPerSecond;
+    List<String> rejections;
+}
@@ -0,0 +1,21 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a single lookup of a batch price query.
+ */
+@Value
+@Builder
+@Jacksonized
+public class PriceQueryDto {
+    @NotNull @Min(0) Long brandId;
+    @NotNull @Min(0) Long productId;
+    @NotNull LocalDateTime applicationDate;
+}
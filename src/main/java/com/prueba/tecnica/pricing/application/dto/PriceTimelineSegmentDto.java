@@ -0,0 +1,23 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * DTO for one line of a price timeline: the price that applies from {@code start}, inclusive,
+ * until {@code end}, exclusive.
+ */
+@Value
+@Builder
+public class PriceTimelineSegmentDto {
+    Long productId;
+    Long brandId;
+    LocalDateTime start;
+    LocalDateTime end;
+    Long priceList;
+    BigDecimal price;
+    String currency;
+}
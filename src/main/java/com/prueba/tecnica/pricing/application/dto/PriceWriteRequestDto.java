@@ -0,0 +1,33 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.prueba.tecnica.pricing.domain.model.PriceRules;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for creating or replacing a price row.
+ */
+@Value
+@Builder
+@Jacksonized
+public class PriceWriteRequestDto {
+    @NotNull @Min(0) Long brandId;
+    @NotNull LocalDateTime startDate;
+    @NotNull LocalDateTime endDate;
+    @NotNull @Min(0) Long priceList;
+    @NotNull @Min(0) Long productId;
+    @NotNull Integer priority;
+    @NotNull @DecimalMin("0") @Digits(integer = PriceRules.MAX_PRICE_INTEGER_DIGITS, fraction = PriceRules.MAX_PRICE_DECIMALS)
+    BigDecimal price;
+    @NotNull @Pattern(regexp = "[A-Z]{3}") String currency;
+}
@@ -0,0 +1,26 @@
+package com.prueba.tecnica.pricing.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * DTO for a stored price row.
+ */
+@Value
+@Builder
+@Jacksonized
+public class StoredPriceDto {
+    Long id;
+    Long brandId;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+    Long priceList;
+    Long productId;
+    Integer priority;
+    BigDecimal price;
+    String currency;
+}
@@ -0,0 +1,27 @@
+package com.prueba.tecnica.pricing.application.mapper;
+
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+
+/**
+ * Maps domain price results to REST response DTOs, converting the primitive dates and amount back
+ * to {@code LocalDateTime} and {@code BigDecimal}.
+ */
+public final class PriceResponseMapper {
+
+    private PriceResponseMapper() {
+    }
+
+    public static PriceResponseDto toDto(PriceResult priceResult) {
+        return PriceResponseDto.builder()
+                .productId(priceResult.getProductId())
+                .brandId(priceResult.getBrandId())
+                .priceList(priceResult.getPriceList())
+                .startDate(PriceUnits.toLocalDateTime(priceResult.getStartDate()))
+                .endDate(PriceUnits.toLocalDateTime(priceResult.getEndDate()))
+                .price(PriceUnits.toAmount(priceResult.getPrice()))
+                .currency(priceResult.getCurrency())
+                .build();
+    }
+}
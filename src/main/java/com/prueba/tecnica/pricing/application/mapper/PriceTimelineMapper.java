@@ -0,0 +1,28 @@
+package com.prueba.tecnica.pricing.application.mapper;
+
+import com.prueba.tecnica.pricing.application.dto.PriceTimelineSegmentDto;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+
+/**
+ * Maps resolved timeline segments to REST response DTOs.
+ */
+public final class PriceTimelineMapper {
+
+    private PriceTimelineMapper() {
+    }
+
+    public static PriceTimelineSegmentDto toDto(PriceSegment segment) {
+        Price price = segment.price();
+        return PriceTimelineSegmentDto.builder()
+                .productId(price.getProductId())
+                .brandId(price.getBrandId())
+                .start(PriceUnits.toLocalDateTime(segment.start()))
+                .end(PriceUnits.toLocalDateTime(segment.end()))
+                .priceList(price.getPriceList())
+                .price(PriceUnits.toAmount(price.getPrice()))
+                .currency(price.getCurrency())
+                .build();
+    }
+}
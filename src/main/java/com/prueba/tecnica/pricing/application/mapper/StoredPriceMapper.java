@@ -0,0 +1,43 @@
+package com.prueba.tecnica.pricing.application.mapper;
+
+import com.prueba.tecnica.pricing.application.dto.PriceWriteRequestDto;
+import com.prueba.tecnica.pricing.application.dto.StoredPriceDto;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+
+/**
+ * Maps price write requests to the domain and stored price rows back to REST DTOs.
+ */
+public final class StoredPriceMapper {
+
+    private StoredPriceMapper() {
+    }
+
+    public static Price toDomain(PriceWriteRequestDto request) {
+        return Price.of(
+                request.getBrandId(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getPriceList(),
+                request.getProductId(),
+                request.getPriority(),
+                request.getPrice(),
+                request.getCurrency());
+    }
+
+    public static StoredPriceDto toDto(StoredPrice storedPrice) {
+        Price price = storedPrice.price();
+        return StoredPriceDto.builder()
+                .id(storedPrice.id())
+                .brandId(price.getBrandId())
+                .startDate(PriceUnits.toLocalDateTime(price.getStartDate()))
+                .endDate(PriceUnits.toLocalDateTime(price.getEndDate()))
+                .priceList(price.getPriceList())
+                .productId(price.getProductId())
+                .priority(price.getPriority())
+                .price(PriceUnits.toAmount(price.getPrice()))
+                .currency(price.getCurrency())
+                .build();
+    }
+}
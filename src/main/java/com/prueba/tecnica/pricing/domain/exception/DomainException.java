@@ -8,4 +8,12 @@ public class DomainException extends RuntimeException {
     public DomainException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Build an exception that records no stack trace and accepts no suppressed exceptions, for
+     * outcomes reported to the client rather than bugs to investigate.
+     */
+    protected DomainException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
 }
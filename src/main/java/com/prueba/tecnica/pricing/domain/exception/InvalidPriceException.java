@@ -0,0 +1,14 @@
+package com.prueba.tecnica.pricing.domain.exception;
+
+/**
+ * A price to write breaks the {@link com.prueba.tecnica.pricing.domain.model.PriceRules}.
+ */
+public class InvalidPriceException extends DomainException {
+    public InvalidPriceException(String message) {
+        super(message);
+    }
+
+    public InvalidPriceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
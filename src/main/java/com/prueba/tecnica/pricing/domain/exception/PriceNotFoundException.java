@@ -1,11 +1,15 @@
 package com.prueba.tecnica.pricing.domain.exception;
 
+/**
+ * No price applies to a lookup. This is an answer for the client rather than a failure, and unknown
+ * products are a large share of lookups, so the exception is thrown without filling in a stack trace.
+ */
 public class PriceNotFoundException extends DomainException{
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false);
     }
 
     public PriceNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false);
     }
 }
@@ -2,23 +2,33 @@ package com.prueba.tecnica.pricing.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 /**
  * Domain model representing a price entry.
  * This is the core entity in our domain layer.
+ * Fields are primitives in the units of {@link PriceUnits}: dates in epoch microseconds and the
+ * price in minor units. Currency codes are interned, so all prices share one instance per code.
  */
 public class Price {
 
-    private final Long brandId;
-    private final LocalDateTime startDate;
-    private final LocalDateTime endDate;
-    private final Long priceList;
-    private final Long productId;
-    private final Integer priority;
-    private final BigDecimal price;
+    /**
+     * Orders overlapping prices from winner to loser: highest priority first and,
+     * for equal priorities, highest price first.
+     */
+    public static final Comparator<Price> PRECEDENCE =
+            Comparator.comparingInt(Price::getPriority).thenComparingLong(Price::getPrice).reversed();
+
+    private final long brandId;
+    private final long startDate;
+    private final long endDate;
+    private final long priceList;
+    private final long productId;
+    private final int priority;
+    private final long price;
     private final String currency;
 
-    public Price (Long brandId, LocalDateTime startDate, LocalDateTime endDate, Long priceList, Long productId, Integer priority, BigDecimal price, String currency) {
+    public Price(long brandId, long startDate, long endDate, long priceList, long productId, int priority, long price, String currency) {
         this.brandId = brandId;
         this.startDate = startDate;
         this.endDate = endDate;
@@ -26,34 +36,45 @@ public class Price {
         this.productId = productId;
         this.priority = priority;
         this.price = price;
-        this.currency = currency;
+        this.currency = currency.intern();
+    }
+
+    /**
+     * Build a price from edge types.
+     *
+     * @throws ArithmeticException if the amount has more than {@value PriceUnits#PRICE_SCALE} decimals
+     */
+    public static Price of(long brandId, LocalDateTime startDate, LocalDateTime endDate, long priceList, long productId,
+            int priority, BigDecimal price, String currency) {
+        return new Price(brandId, PriceUnits.toEpochMicros(startDate), PriceUnits.toEpochMicros(endDate), priceList,
+                productId, priority, PriceUnits.toMinorUnits(price), currency);
     }
 
-    public Long getBrandId() {
+    public long getBrandId() {
         return brandId;
     }
 
-    public LocalDateTime getStartDate() {
+    public long getStartDate() {
         return startDate;
     }
 
-    public LocalDateTime getEndDate() {
+    public long getEndDate() {
         return endDate;
     }
 
-    public Long getPriceList() {
+    public long getPriceList() {
         return priceList;
     }
 
-    public Long getProductId() {
+    public long getProductId() {
         return productId;
     }
 
-    public Integer getPriority() {
+    public int getPriority() {
         return priority;
     }
 
-    public BigDecimal getPrice() {
+    public long getPrice() {
         return price;
     }
 
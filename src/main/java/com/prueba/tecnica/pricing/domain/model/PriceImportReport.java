@@ -0,0 +1,47 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk price import.
+ */
+public class PriceImportReport {
+
+    private final long acceptedRows;
+    private final long rejectedRows;
+    private final long elapsedMillis;
+    private final List<String> rejections;
+
+    public PriceImportReport(long acceptedRows, long rejectedRows, long elapsedMillis, List<String> rejections) {
+        this.acceptedRows = acceptedRows;
+        this.rejectedRows = rejectedRows;
+        this.elapsedMillis = elapsedMillis;
+        this.rejections = List.copyOf(rejections);
+    }
+
+    public long getAcceptedRows() {
+        return acceptedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return rows read per second, accepted or rejected
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? acceptedRows + rejectedRows : (acceptedRows + rejectedRows) * 1000 / elapsedMillis;
+    }
+
+    /**
+     * @return the reason of the first rejected rows, prefixed by their line number
+     */
+    public List<String> getRejections() {
+        return rejections;
+    }
+}
@@ -0,0 +1,19 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+/**
+ * A row read by a bulk price import: either a parsed price or the reason it could not be parsed.
+ */
+public record PriceImportRow(long lineNumber, Price price, String error) {
+
+    public static PriceImportRow parsed(long lineNumber, Price price) {
+        return new PriceImportRow(lineNumber, price, null);
+    }
+
+    public static PriceImportRow unparseable(long lineNumber, String error) {
+        return new PriceImportRow(lineNumber, null, error);
+    }
+
+    public boolean isParsed() {
+        return error == null;
+    }
+}
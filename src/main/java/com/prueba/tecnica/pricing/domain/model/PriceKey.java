@@ -0,0 +1,7 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+/**
+ * Identifies the price timeline of a product within a brand.
+ */
+public record PriceKey(long brandId, long productId) {
+}
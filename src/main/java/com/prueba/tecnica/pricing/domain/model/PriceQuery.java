@@ -0,0 +1,11 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+/**
+ * A single price lookup: product and brand at a given date, in epoch microseconds.
+ */
+public record PriceQuery(long brandId, long productId, long applicationDate) {
+
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+}
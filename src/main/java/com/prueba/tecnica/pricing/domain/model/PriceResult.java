@@ -1,66 +1,85 @@
 package com.prueba.tecnica.pricing.domain.model;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-
 /**
  * Domain model representing the result of a price query.
- * This contains the information that should be returned to the client.
+ * This contains the information that should be returned to the client, in the units of {@link PriceUnits}.
+ * It is a view of the applicable price rather than a copy of its fields, so a lookup answered from a
+ * cached timeline allocates one small object.
  */
 public class PriceResult {
 
-    private final Long productId;
-    private final Long brandId;
-    private final Long priceList;
-    private final LocalDateTime startDate;
-    private final LocalDateTime endDate;
-    private final BigDecimal price;
-    private final String currency;
+    /**
+     * Value of {@link #getValidUntil()} when the result was resolved without its timeline segment.
+     */
+    public static final long UNKNOWN_VALIDITY = Long.MIN_VALUE;
 
-    public PriceResult(Long productId, Long brandId, Long priceList, LocalDateTime startDate, LocalDateTime endDate, BigDecimal price, String currency) {
+    private final Price price;
+    private final long validUntil;
 
-        if (startDate.isAfter(endDate) || startDate.isEqual(endDate)) {
-            throw new IllegalArgumentException("startDate must be before endDate");
-        }
+    private PriceResult(Price price, long validUntil) {
+        this.price = price;
+        this.validUntil = validUntil;
+    }
 
-        if (price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("price must be positive");
-        }
+    /**
+     * Build the query result of the given applicable price.
+     *
+     * @param price the applicable price
+     * @return the price result
+     * @throws IllegalArgumentException if the price breaks the {@link PriceRules}
+     */
+    public static PriceResult from(Price price) {
+        PriceRules.validate(price.getStartDate(), price.getEndDate(), price.getPrice());
+        return new PriceResult(price, UNKNOWN_VALIDITY);
+    }
 
-        this.productId = productId;
-        this.brandId = brandId;
-        this.priceList = priceList;
-        this.startDate = startDate;
-        this.endDate = endDate;
-        this.price = price;
-        this.currency = currency;
+    /**
+     * Build the query result of the price winning the given timeline segment; the result stays the
+     * same for any date up to the end of the segment.
+     *
+     * @param segment the timeline segment covering the query date
+     * @return the price result
+     * @throws IllegalArgumentException if the price breaks the {@link PriceRules}
+     */
+    public static PriceResult from(PriceSegment segment) {
+        Price price = segment.price();
+        PriceRules.validate(price.getStartDate(), price.getEndDate(), price.getPrice());
+        return new PriceResult(price, segment.end());
     }
 
-    public Long getProductId() {
-        return productId;
+    public long getProductId() {
+        return price.getProductId();
     }
 
-    public Long getBrandId() {
-        return brandId;
+    public long getBrandId() {
+        return price.getBrandId();
     }
 
-    public Long getPriceList() {
-        return priceList;
+    public long getPriceList() {
+        return price.getPriceList();
     }
 
-    public LocalDateTime getStartDate() {
-        return startDate;
+    public long getStartDate() {
+        return price.getStartDate();
     }
 
-    public LocalDateTime getEndDate() {
-        return endDate;
+    public long getEndDate() {
+        return price.getEndDate();
     }
 
-    public BigDecimal getPrice() {
-        return price;
+    public long getPrice() {
+        return price.getPrice();
     }
 
     public String getCurrency() {
-        return currency;
+        return price.getCurrency();
+    }
+
+    /**
+     * @return the exclusive end, in epoch microseconds, of the period during which this price keeps
+     *         applying, or {@link #UNKNOWN_VALIDITY}
+     */
+    public long getValidUntil() {
+        return validUntil;
     }
 }
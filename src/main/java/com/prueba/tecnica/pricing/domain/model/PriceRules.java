@@ -0,0 +1,58 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Business rules every price range must satisfy.
+ */
+public final class PriceRules {
+
+    /**
+     * Largest number of decimals a price amount may have.
+     */
+    public static final int MAX_PRICE_DECIMALS = 2;
+
+    /**
+     * Largest number of integer digits a price amount may have.
+     */
+    public static final int MAX_PRICE_INTEGER_DIGITS = 8;
+
+    private PriceRules() {
+    }
+
+    /**
+     * Check that the range starts before it ends and that the price is not negative.
+     * Dates and price are in the units of {@link PriceUnits}.
+     *
+     * @throws IllegalArgumentException if a rule is broken
+     */
+    public static void validate(long startDate, long endDate, long price) {
+        if (startDate >= endDate) {
+            throw new IllegalArgumentException("startDate must be before endDate");
+        }
+
+        if (price < 0) {
+            throw new IllegalArgumentException("price must be positive");
+        }
+    }
+
+    /**
+     * Check that the amount has at most {@value #MAX_PRICE_INTEGER_DIGITS} integer digits and
+     * {@value #MAX_PRICE_DECIMALS} decimals, and that the currency is a three-letter ISO 4217 code.
+     *
+     * @throws IllegalArgumentException if a rule is broken
+     */
+    public static void validateAmount(BigDecimal price, String currency) {
+        BigDecimal amount = price.stripTrailingZeros();
+        if (amount.scale() > MAX_PRICE_DECIMALS) {
+            throw new IllegalArgumentException("price must have at most " + MAX_PRICE_DECIMALS + " decimals");
+        }
+        if (amount.precision() - amount.scale() > MAX_PRICE_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("price must have at most " + MAX_PRICE_INTEGER_DIGITS + " integer digits");
+        }
+
+        if (currency == null || currency.length() != 3 || !currency.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+            throw new IllegalArgumentException("currency must be a three-letter ISO 4217 code");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+/**
+ * A piece of a resolved price timeline where a single price wins.
+ *
+ * @param start first instant of the segment in epoch microseconds, inclusive
+ * @param end end of the segment in epoch microseconds, exclusive
+ * @param price the price that applies during the whole segment
+ */
+public record PriceSegment(long start, long end, Price price) {
+}
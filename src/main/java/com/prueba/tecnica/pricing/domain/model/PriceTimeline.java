@@ -0,0 +1,187 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Resolved price timeline of a single product and brand.
+ * The overlapping price ranges are split ahead of time into non-overlapping segments,
+ * each one holding the price that wins by {@link Price#PRECEDENCE}, so that a lookup
+ * is a binary search over the segment starts.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new long[0], new long[0], new Price[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final Price[] winners;
+
+    private PriceTimeline(long[] starts, long[] ends, Price[] winners) {
+        this.starts = starts;
+        this.ends = ends;
+        this.winners = winners;
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Resolve the timeline of the given prices, which must all belong to the same product and brand.
+     * Price ranges are inclusive at both ends, as in the PRICES table.
+     *
+     * @param prices the price ranges of the product
+     * @return the resolved timeline
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] boundaries = new long[prices.size() * 2];
+        int boundaryCount = 0;
+        for (Price price : prices) {
+            boundaries[boundaryCount++] = price.getStartDate();
+            boundaries[boundaryCount++] = exclusiveEnd(price);
+        }
+        Arrays.sort(boundaries);
+
+        Price[] byStart = prices.toArray(Price[]::new);
+        Arrays.sort(byStart, Comparator.comparingLong(Price::getStartDate));
+
+        PriorityQueue<Price> active = new PriorityQueue<>(Price.PRECEDENCE);
+        long[] segmentStarts = new long[boundaries.length];
+        long[] segmentEnds = new long[boundaries.length];
+        Price[] segmentWinners = new Price[boundaries.length];
+        int segments = 0;
+
+        int next = 0;
+        long from = boundaries[0];
+        for (int i = 1; i < boundaries.length; i++) {
+            long to = boundaries[i];
+            if (to == from) {
+                continue;
+            }
+            while (next < byStart.length && byStart[next].getStartDate() <= from) {
+                active.add(byStart[next++]);
+            }
+            while (!active.isEmpty() && exclusiveEnd(active.peek()) <= from) {
+                active.poll();
+            }
+
+            Price winner = active.peek();
+            if (winner != null) {
+                int last = segments - 1;
+                if (last >= 0 && segmentWinners[last] == winner && segmentEnds[last] == from) {
+                    segmentEnds[last] = to;
+                } else {
+                    segmentStarts[segments] = from;
+                    segmentEnds[segments] = to;
+                    segmentWinners[segments++] = winner;
+                }
+            }
+            from = to;
+        }
+
+        return new PriceTimeline(
+                Arrays.copyOf(segmentStarts, segments),
+                Arrays.copyOf(segmentEnds, segments),
+                Arrays.copyOf(segmentWinners, segments));
+    }
+
+    /**
+     * Find the price that applies at the given instant.
+     *
+     * @param instant the date to check price applicability, in epoch microseconds
+     * @return the winning price, if any price range covers the instant
+     */
+    public Optional<Price> priceAt(long instant) {
+        int index = indexAt(instant);
+        return index < 0 ? Optional.empty() : Optional.of(winners[index]);
+    }
+
+    /**
+     * Find the segment that covers the given instant, which tells until when its price keeps applying.
+     *
+     * @param instant the date to check price applicability, in epoch microseconds
+     * @return the segment covering the instant, if any price range covers it
+     */
+    public Optional<PriceSegment> segmentAt(long instant) {
+        int index = indexAt(instant);
+        return index < 0 ? Optional.empty() : Optional.of(new PriceSegment(starts[index], ends[index], winners[index]));
+    }
+
+    private int indexAt(long instant) {
+        int high = indexBefore(instant);
+        if (high < 0 || ends[high] <= instant) {
+            return -1;
+        }
+        return high;
+    }
+
+    /**
+     * @return the index of the last segment starting at or before the instant, or -1
+     */
+    private int indexBefore(long instant) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] > instant) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * @return the resolved segments, ordered by start and never overlapping
+     */
+    public List<PriceSegment> segments() {
+        List<PriceSegment> segments = new ArrayList<>(winners.length);
+        for (int i = 0; i < winners.length; i++) {
+            segments.add(new PriceSegment(starts[i], ends[i], winners[i]));
+        }
+        return segments;
+    }
+
+    /**
+     * Clip the resolved segments to the given period.
+     *
+     * @param from start of the period in epoch microseconds, inclusive
+     * @param to end of the period in epoch microseconds, exclusive
+     * @return the segments overlapping the period, ordered by start and cut to its bounds
+     */
+    public List<PriceSegment> segmentsBetween(long from, long to) {
+        List<PriceSegment> segments = new ArrayList<>();
+        for (int i = Math.max(0, indexBefore(from)); i < winners.length && starts[i] < to; i++) {
+            if (ends[i] > from) {
+                segments.add(new PriceSegment(Math.max(starts[i], from), Math.min(ends[i], to), winners[i]));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * @return the number of resolved segments
+     */
+    public int size() {
+        return winners.length;
+    }
+
+    public boolean isEmpty() {
+        return winners.length == 0;
+    }
+
+    private static long exclusiveEnd(Price price) {
+        return price.getEndDate() + 1;
+    }
+}
@@ -0,0 +1,60 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversions between the primitive units of the price model and the types used at the edges.
+ * Dates are held as epoch microseconds of the zone-less date-time read as UTC, the precision of the
+ * PRICES TIMESTAMP columns; finer query dates are truncated to it. Amounts are held as minor units
+ * with {@value #PRICE_SCALE} decimals.
+ */
+public final class PriceUnits {
+
+    /**
+     * Number of decimals of an amount held in minor units.
+     */
+    public static final int PRICE_SCALE = PriceRules.MAX_PRICE_DECIMALS;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private PriceUnits() {
+    }
+
+    /**
+     * @param dateTime the date-time to convert
+     * @return the epoch microseconds of the date-time
+     */
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), MICROS_PER_SECOND),
+                dateTime.getNano() / NANOS_PER_MICRO);
+    }
+
+    /**
+     * @param epochMicros the epoch microseconds to convert
+     * @return the date-time of the epoch microseconds
+     */
+    public static LocalDateTime toLocalDateTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO, ZoneOffset.UTC);
+    }
+
+    /**
+     * @param amount the amount to convert, with at most {@value #PRICE_SCALE} decimals
+     * @return the amount in minor units
+     * @throws ArithmeticException if the amount has more decimals or does not fit in a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(PRICE_SCALE).longValueExact();
+    }
+
+    /**
+     * @param minorUnits the amount in minor units
+     * @return the amount with {@value #PRICE_SCALE} decimals
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, PRICE_SCALE);
+    }
+}
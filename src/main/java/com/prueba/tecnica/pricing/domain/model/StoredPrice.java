@@ -0,0 +1,10 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+/**
+ * A price row as stored, with the identifier it is updated and deleted by.
+ *
+ * @param id the row identifier
+ * @param price the price of the row
+ */
+public record StoredPrice(long id, Price price) {
+}
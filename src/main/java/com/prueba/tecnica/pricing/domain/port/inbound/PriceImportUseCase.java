@@ -0,0 +1,21 @@
+package com.prueba.tecnica.pricing.domain.port.inbound;
+
+import java.util.stream.Stream;
+
+import com.prueba.tecnica.pricing.domain.model.PriceImportReport;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+
+/**
+ * Inbound port for bulk price imports.
+ */
+public interface PriceImportUseCase {
+
+    /**
+     * Validate and store the given rows. Invalid rows are rejected without stopping the import.
+     * The rows are consumed as they are read, so the source never has to fit in memory.
+     *
+     * @param rows the rows to import
+     * @return the number of accepted and rejected rows and the import throughput
+     */
+    PriceImportReport importPrices(Stream<PriceImportRow> rows);
+}
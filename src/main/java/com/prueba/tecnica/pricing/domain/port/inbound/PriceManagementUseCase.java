@@ -0,0 +1,39 @@
+package com.prueba.tecnica.pricing.domain.port.inbound;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+
+/**
+ * Inbound port for creating, updating and deleting single price rows while the service runs.
+ */
+public interface PriceManagementUseCase {
+
+    /**
+     * @param id the row identifier
+     * @return the stored row
+     * @throws com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException if the row does not exist
+     */
+    StoredPrice getPrice(long id);
+
+    /**
+     * @param price the price to store
+     * @return the stored row with its generated identifier
+     * @throws com.prueba.tecnica.pricing.domain.exception.InvalidPriceException if the price breaks the rules
+     */
+    StoredPrice createPrice(Price price);
+
+    /**
+     * @param id the row identifier
+     * @param price the new price of the row
+     * @return the updated row
+     * @throws com.prueba.tecnica.pricing.domain.exception.InvalidPriceException if the price breaks the rules
+     * @throws com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException if the row does not exist
+     */
+    StoredPrice updatePrice(long id, Price price);
+
+    /**
+     * @param id the row identifier
+     * @throws com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException if the row does not exist
+     */
+    void deletePrice(long id);
+}
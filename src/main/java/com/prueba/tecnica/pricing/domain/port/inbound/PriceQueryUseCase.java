@@ -1,8 +1,9 @@
 package com.prueba.tecnica.pricing.domain.port.inbound;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
 import com.prueba.tecnica.pricing.domain.model.PriceResult;
 
 /**
@@ -16,8 +17,17 @@ public interface PriceQueryUseCase {
      * 
      * @param brandId the brand identifier
      * @param productId the product identifier
-     * @param applicationDate the date to check price applicability
+     * @param applicationDate the date to check price applicability, in epoch microseconds
      * @return the applicable price result if found
      */
-    PriceResult getApplicablePrice(Long brandId, Long productId, LocalDateTime applicationDate);
+    PriceResult getApplicablePrice(long brandId, long productId, long applicationDate);
+
+    /**
+     * Get the applicable price for each of the given queries.
+     * A query without an applicable price does not fail the batch.
+     * 
+     * @param queries the lookups to resolve
+     * @return the applicable price result of each query, in the same order as the queries
+     */
+    List<Optional<PriceResult>> getApplicablePrices(List<PriceQuery> queries);
 }
@@ -0,0 +1,35 @@
+package com.prueba.tecnica.pricing.domain.port.inbound;
+
+import java.util.function.Consumer;
+
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+
+/**
+ * Inbound port for effective price timelines over a period.
+ * Segments are pushed to the action as each product is resolved, so a long period is never held in memory.
+ */
+public interface PriceTimelineUseCase {
+
+    /**
+     * Resolve the effective prices of a product over the given period.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param from start of the period in epoch microseconds, inclusive
+     * @param to end of the period in epoch microseconds, exclusive
+     * @param action receives the resolved segments, ordered by start and cut to the period
+     * @throws IllegalArgumentException if the period is empty
+     */
+    void streamTimeline(long brandId, long productId, long from, long to, Consumer<PriceSegment> action);
+
+    /**
+     * Resolve the effective prices of every product of a brand over the given period.
+     *
+     * @param brandId the brand identifier
+     * @param from start of the period in epoch microseconds, inclusive
+     * @param to end of the period in epoch microseconds, exclusive
+     * @param action receives the resolved segments, by ascending product id and then by start, cut to the period
+     * @throws IllegalArgumentException if the period is empty
+     */
+    void streamBrandTimeline(long brandId, long from, long to, Consumer<PriceSegment> action);
+}
@@ -0,0 +1,25 @@
+package com.prueba.tecnica.pricing.domain.port.inbound;
+
+import java.util.concurrent.CompletionStage;
+
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+
+/**
+ * Non-blocking variant of {@link PriceQueryUseCase}, for inbound adapters that must not hold a
+ * thread while the price is looked up.
+ * Results are JDK completion stages, so the domain stays free of any reactive library; adapters
+ * wrap them in the types of their stack.
+ */
+public interface ReactivePriceQueryUseCase {
+
+    /**
+     * Get the applicable price for a product at a specific date and brand.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param applicationDate the date to check price applicability, in epoch microseconds
+     * @return a stage completed with the applicable price result, or failed with a
+     *         {@link com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException} if none applies
+     */
+    CompletionStage<PriceResult> getApplicablePrice(long brandId, long productId, long applicationDate);
+}
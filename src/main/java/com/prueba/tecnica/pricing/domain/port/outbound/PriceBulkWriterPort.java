@@ -0,0 +1,18 @@
+package com.prueba.tecnica.pricing.domain.port.outbound;
+
+import java.util.List;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+
+/**
+ * Outbound port for bulk price writes.
+ */
+public interface PriceBulkWriterPort {
+
+    /**
+     * Store a chunk of already validated prices.
+     *
+     * @param prices the prices to insert
+     */
+    void insertAll(List<Price> prices);
+}
@@ -0,0 +1,34 @@
+package com.prueba.tecnica.pricing.domain.port.outbound;
+
+import java.util.function.Consumer;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+
+/**
+ * Outbound port for reading the price ranges that overlap a period, one row at a time.
+ * Implementations pass each price to the action as it is read, so the source never has to fit in memory.
+ */
+public interface PriceHistoryPort {
+
+    /**
+     * Read the prices of one product overlapping the given period.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param from start of the period in epoch microseconds, inclusive
+     * @param to end of the period in epoch microseconds, exclusive
+     * @param action receives each price
+     */
+    void forEachProductPrice(long brandId, long productId, long from, long to, Consumer<Price> action);
+
+    /**
+     * Read the prices of every product of a brand overlapping the given period.
+     * All the prices of a product are passed one after the other, products in ascending id order.
+     *
+     * @param brandId the brand identifier
+     * @param from start of the period in epoch microseconds, inclusive
+     * @param to end of the period in epoch microseconds, exclusive
+     * @param action receives each price
+     */
+    void forEachBrandPrice(long brandId, long from, long to, Consumer<Price> action);
+}
@@ -1,10 +1,11 @@
 package com.prueba.tecnica.pricing.domain.port.outbound;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
 
 /**
  * Outbound port for price repository operations.
@@ -17,8 +18,35 @@ public interface PriceRepositoryPort {
      * 
      * @param brandId the brand identifier
      * @param productId the product identifier
-     * @param applicationDate the date to check price applicability
+     * @param applicationDate the date to check price applicability, in epoch microseconds
      * @return list of applicable prices
      */
-    Optional<Price> findApplicablePrices(Long brandId, Long productId, LocalDateTime applicationDate);
+    default Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        return findApplicableSegment(brandId, productId, applicationDate).map(PriceSegment::price);
+    }
+
+    /**
+     * Find the resolved segment of the product timeline that covers the given date: the applicable
+     * price and the period during which no other price takes over.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param applicationDate the date to check price applicability, in epoch microseconds
+     * @return the segment covering the date, if a price applies
+     */
+    Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate);
+
+    /**
+     * Find the applicable price for each of the given queries.
+     * Adapters backed by a remote store should override this to resolve the whole batch
+     * in as few round-trips as possible.
+     *
+     * @param queries the lookups to resolve
+     * @return the applicable price of each query, in the same order as the queries
+     */
+    default List<Optional<Price>> findApplicablePrices(List<PriceQuery> queries) {
+        return queries.stream()
+                .map(query -> findApplicablePrices(query.brandId(), query.productId(), query.applicationDate()))
+                .toList();
+    }
 }
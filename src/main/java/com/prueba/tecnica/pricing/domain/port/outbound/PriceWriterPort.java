@@ -0,0 +1,44 @@
+package com.prueba.tecnica.pricing.domain.port.outbound;
+
+import java.util.Optional;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+
+/**
+ * Outbound port for single price row writes.
+ * Implementations make every committed write visible to the read side for the affected brands and
+ * products only, leaving the rest of the cached prices untouched.
+ */
+public interface PriceWriterPort {
+
+    /**
+     * @param id the row identifier
+     * @return the stored row, if it exists
+     */
+    Optional<StoredPrice> findById(long id);
+
+    /**
+     * Store a new, already validated price.
+     *
+     * @param price the price to insert
+     * @return the stored row with its generated identifier
+     */
+    StoredPrice create(Price price);
+
+    /**
+     * Replace the price of a row. The brand and product may change, in which case both the old and
+     * the new product are affected.
+     *
+     * @param id the row identifier
+     * @param price the already validated new price
+     * @return the updated row, or empty if it does not exist
+     */
+    Optional<StoredPrice> update(long id, Price price);
+
+    /**
+     * @param id the row identifier
+     * @return whether the row existed and was deleted
+     */
+    boolean delete(long id);
+}
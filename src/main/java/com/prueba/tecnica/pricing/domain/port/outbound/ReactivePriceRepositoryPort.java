@@ -0,0 +1,23 @@
+package com.prueba.tecnica.pricing.domain.port.outbound;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+
+/**
+ * Non-blocking variant of {@link PriceRepositoryPort}: the returned stage completes once the
+ * lookup is done, without a caller thread waiting on it.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Find the resolved segment of the product timeline that covers the given date.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param applicationDate the date to check price applicability, in epoch microseconds
+     * @return a stage completed with the segment covering the date, if a price applies
+     */
+    CompletionStage<Optional<PriceSegment>> findApplicableSegment(long brandId, long productId, long applicationDate);
+}
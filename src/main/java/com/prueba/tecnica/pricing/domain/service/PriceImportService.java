@@ -0,0 +1,102 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportReport;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceRules;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceBulkWriterPort;
+
+/**
+ * Domain service implementing the bulk price import use case.
+ * Rows are validated with the same {@link PriceRules} as price results (the amount and currency rules
+ * are applied by the reader, before the amount is converted to minor units) and written in chunks, so only one chunk is held in memory at a time. A chunk the writer
+ * fails on is reported as rejected and the import goes on with the next one; chunks written before
+ * stay committed.
+ */
+public class PriceImportService implements PriceImportUseCase {
+
+    static final int MAX_REPORTED_REJECTIONS = 20;
+
+    private final PriceBulkWriterPort priceBulkWriterPort;
+    private final int chunkSize;
+
+    public PriceImportService(PriceBulkWriterPort priceBulkWriterPort, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.priceBulkWriterPort = priceBulkWriterPort;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public PriceImportReport importPrices(Stream<PriceImportRow> rows) {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        List<Price> chunk = new ArrayList<>(chunkSize);
+        long chunkFirstLine = 0;
+        long chunkLastLine = 0;
+
+        Iterator<PriceImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            PriceImportRow row = iterator.next();
+            String error = row.isParsed() ? validate(row.price()) : row.error();
+            if (error != null) {
+                progress.reject(1, "line " + row.lineNumber() + ": " + error);
+                continue;
+            }
+
+            if (chunk.isEmpty()) {
+                chunkFirstLine = row.lineNumber();
+            }
+            chunkLastLine = row.lineNumber();
+            chunk.add(row.price());
+            if (chunk.size() == chunkSize) {
+                write(chunk, chunkFirstLine, chunkLastLine, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, chunkFirstLine, chunkLastLine, progress);
+        }
+
+        return new PriceImportReport(progress.accepted, progress.rejected, (System.nanoTime() - start) / 1_000_000,
+                progress.rejections);
+    }
+
+    private void write(List<Price> chunk, long firstLine, long lastLine, Progress progress) {
+        try {
+            priceBulkWriterPort.insertAll(chunk);
+            progress.accepted += chunk.size();
+        } catch (RuntimeException e) {
+            progress.reject(chunk.size(), "lines " + firstLine + "-" + lastLine + ": chunk not written: " + e.getMessage());
+        }
+    }
+
+    private static String validate(Price price) {
+        try {
+            PriceRules.validate(price.getStartDate(), price.getEndDate(), price.getPrice());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static final class Progress {
+        private long accepted;
+        private long rejected;
+        private final List<String> rejections = new ArrayList<>();
+
+        private void reject(long rows, String rejection) {
+            rejected += rows;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(rejection);
+            }
+        }
+    }
+}
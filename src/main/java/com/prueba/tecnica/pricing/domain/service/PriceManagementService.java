@@ -0,0 +1,58 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import com.prueba.tecnica.pricing.domain.exception.InvalidPriceException;
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceRules;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceManagementUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceWriterPort;
+
+/**
+ * Domain service implementing single price row writes.
+ * Prices are validated with the same {@link PriceRules} as imported rows before they reach the writer.
+ */
+public class PriceManagementService implements PriceManagementUseCase {
+
+    private final PriceWriterPort priceWriterPort;
+
+    public PriceManagementService(PriceWriterPort priceWriterPort) {
+        this.priceWriterPort = priceWriterPort;
+    }
+
+    @Override
+    public StoredPrice getPrice(long id) {
+        return priceWriterPort.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    @Override
+    public StoredPrice createPrice(Price price) {
+        validate(price);
+        return priceWriterPort.create(price);
+    }
+
+    @Override
+    public StoredPrice updatePrice(long id, Price price) {
+        validate(price);
+        return priceWriterPort.update(id, price).orElseThrow(() -> notFound(id));
+    }
+
+    @Override
+    public void deletePrice(long id) {
+        if (!priceWriterPort.delete(id)) {
+            throw notFound(id);
+        }
+    }
+
+    private static void validate(Price price) {
+        try {
+            PriceRules.validate(price.getStartDate(), price.getEndDate(), price.getPrice());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPriceException(e.getMessage(), e);
+        }
+    }
+
+    private static PriceNotFoundException notFound(long id) {
+        return new PriceNotFoundException("No price with id " + id);
+    }
+}
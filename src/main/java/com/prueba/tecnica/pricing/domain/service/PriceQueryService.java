@@ -1,13 +1,12 @@
 package com.prueba.tecnica.pricing.domain.service;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
-import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
 import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
 import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
 import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
 
@@ -24,20 +23,24 @@ public class PriceQueryService implements PriceQueryUseCase {
     }
 
     @Override
-    public PriceResult getApplicablePrice(Long brandId, Long productId, LocalDateTime applicationDate) {
-        Price applicablePrice = priceRepositoryPort.findApplicablePrices(brandId, productId, applicationDate)
-                .orElseThrow(() -> new PriceNotFoundException("No applicable price found"));
-        return mapToPriceResult(applicablePrice);
+    public PriceResult getApplicablePrice(long brandId, long productId, long applicationDate) {
+        return toPriceResult(priceRepositoryPort.findApplicableSegment(brandId, productId, applicationDate));
     }
 
-    private PriceResult mapToPriceResult(Price price) {
-        return new PriceResult(
-                price.getProductId(),
-                price.getBrandId(),
-                price.getPriceList(),
-                price.getStartDate(),
-                price.getEndDate(),
-                price.getPrice(),
-                price.getCurrency());
+    @Override
+    public List<Optional<PriceResult>> getApplicablePrices(List<PriceQuery> queries) {
+        return priceRepositoryPort.findApplicablePrices(queries).stream()
+                .map(applicablePrice -> applicablePrice.map(PriceResult::from))
+                .toList();
+    }
+
+    /**
+     * @param applicableSegment the segment covering the query date, if any
+     * @return the price result of the segment
+     * @throws PriceNotFoundException if no price applies
+     */
+    static PriceResult toPriceResult(Optional<PriceSegment> applicableSegment) {
+        return PriceResult.from(applicableSegment
+                .orElseThrow(() -> new PriceNotFoundException("No applicable price found")));
     }
 }
@@ -0,0 +1,81 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceTimelineUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceHistoryPort;
+
+/**
+ * Domain service implementing the price timeline use case.
+ * The prices read from the {@link PriceHistoryPort} are grouped by product as they arrive; each
+ * product is resolved into a {@link PriceTimeline} once its last price is read, so only the prices
+ * of one product are held in memory at a time.
+ */
+public class PriceTimelineService implements PriceTimelineUseCase {
+
+    private final PriceHistoryPort priceHistoryPort;
+
+    public PriceTimelineService(PriceHistoryPort priceHistoryPort) {
+        this.priceHistoryPort = priceHistoryPort;
+    }
+
+    @Override
+    public void streamTimeline(long brandId, long productId, long from, long to, Consumer<PriceSegment> action) {
+        validatePeriod(from, to);
+        ProductGrouper grouper = new ProductGrouper(from, to, action);
+        priceHistoryPort.forEachProductPrice(brandId, productId, from, to, grouper);
+        grouper.flush();
+    }
+
+    @Override
+    public void streamBrandTimeline(long brandId, long from, long to, Consumer<PriceSegment> action) {
+        validatePeriod(from, to);
+        ProductGrouper grouper = new ProductGrouper(from, to, action);
+        priceHistoryPort.forEachBrandPrice(brandId, from, to, grouper);
+        grouper.flush();
+    }
+
+    private static void validatePeriod(long from, long to) {
+        if (from >= to) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+    /**
+     * Collects the consecutive prices of a product and emits its clipped timeline when the next product starts.
+     */
+    private static final class ProductGrouper implements Consumer<Price> {
+
+        private final long from;
+        private final long to;
+        private final Consumer<PriceSegment> action;
+        private final List<Price> prices = new ArrayList<>();
+
+        ProductGrouper(long from, long to, Consumer<PriceSegment> action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        public void accept(Price price) {
+            if (!prices.isEmpty() && prices.get(0).getProductId() != price.getProductId()) {
+                flush();
+            }
+            prices.add(price);
+        }
+
+        void flush() {
+            if (prices.isEmpty()) {
+                return;
+            }
+            PriceTimeline.of(prices).segmentsBetween(from, to).forEach(action);
+            prices.clear();
+        }
+    }
+}
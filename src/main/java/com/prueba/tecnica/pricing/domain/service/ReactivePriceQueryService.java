@@ -0,0 +1,26 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import java.util.concurrent.CompletionStage;
+
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.port.inbound.ReactivePriceQueryUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.ReactivePriceRepositoryPort;
+
+/**
+ * Domain service implementing the non-blocking price query use case.
+ * The resolution rules are the ones of {@link PriceQueryService}; only the wait is asynchronous.
+ */
+public class ReactivePriceQueryService implements ReactivePriceQueryUseCase {
+
+    private final ReactivePriceRepositoryPort reactivePriceRepositoryPort;
+
+    public ReactivePriceQueryService(ReactivePriceRepositoryPort reactivePriceRepositoryPort) {
+        this.reactivePriceRepositoryPort = reactivePriceRepositoryPort;
+    }
+
+    @Override
+    public CompletionStage<PriceResult> getApplicablePrice(long brandId, long productId, long applicationDate) {
+        return reactivePriceRepositoryPort.findApplicableSegment(brandId, productId, applicationDate)
+                .thenApply(PriceQueryService::toPriceResult);
+    }
+}
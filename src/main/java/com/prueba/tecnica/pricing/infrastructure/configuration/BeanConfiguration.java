@@ -1,15 +1,85 @@
 package com.prueba.tecnica.pricing.infrastructure.configuration;
 
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceManagementUseCase;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceTimelineUseCase;
+import com.prueba.tecnica.pricing.domain.port.inbound.ReactivePriceQueryUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceBulkWriterPort;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceHistoryPort;
 import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceWriterPort;
+import com.prueba.tecnica.pricing.domain.port.outbound.ReactivePriceRepositoryPort;
+import com.prueba.tecnica.pricing.domain.service.PriceImportService;
+import com.prueba.tecnica.pricing.domain.service.PriceManagementService;
 import com.prueba.tecnica.pricing.domain.service.PriceQueryService;
+import com.prueba.tecnica.pricing.domain.service.PriceTimelineService;
+import com.prueba.tecnica.pricing.domain.service.ReactivePriceQueryService;
+import com.prueba.tecnica.pricing.infrastructure.metrics.MeteredPriceQueryUseCase;
+import com.prueba.tecnica.pricing.infrastructure.metrics.MeteredPriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.metrics.PricingMetrics;
+import com.prueba.tecnica.pricing.infrastructure.persistence.filter.KeyFilteredPriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.filter.PriceKeyFilter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class BeanConfiguration {
 
+    /**
+     * The query service over the selected adapter, behind the key filter when it is enabled.
+     */
+    @Bean
+    PriceQueryUseCase priceQueryService(PriceRepositoryPort priceRepositoryPort, PricingMetrics pricingMetrics,
+            ObjectProvider<PriceKeyFilter> priceKeyFilter) {
+        PriceRepositoryPort repository = new MeteredPriceRepositoryPort(priceRepositoryPort, pricingMetrics);
+        PriceKeyFilter keyFilter = priceKeyFilter.getIfAvailable();
+        if (keyFilter != null) {
+            repository = new KeyFilteredPriceRepositoryPort(repository, keyFilter);
+        }
+        return new MeteredPriceQueryUseCase(new PriceQueryService(repository), pricingMetrics);
+    }
+
     @Bean
-    PriceQueryService priceQueryService(PriceRepositoryPort priceRepositoryPort) {
-        return new PriceQueryService(priceRepositoryPort);
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    ReactivePriceQueryUseCase reactivePriceQueryService(ReactivePriceRepositoryPort reactivePriceRepositoryPort) {
+        return new ReactivePriceQueryService(reactivePriceRepositoryPort);
+    }
+
+    @Bean
+    PriceTimelineUseCase priceTimelineService(PriceHistoryPort priceHistoryPort) {
+        return new PriceTimelineService(priceHistoryPort);
+    }
+
+    @Bean
+    PriceImportUseCase priceImportService(PriceBulkWriterPort priceBulkWriterPort,
+            @Value("${pricing.import.chunk-size:5000}") int chunkSize) {
+        return new PriceImportService(priceBulkWriterPort, chunkSize);
+    }
+
+    @Bean
+    PriceManagementUseCase priceManagementService(PriceWriterPort priceWriterPort) {
+        return new PriceManagementService(priceWriterPort);
+    }
+
+    /**
+     * Workers recomputing price segments, shared by every rebuild for the lifetime of the application.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "pricing.repository.type", havingValue = "segments")
+    ForkJoinPool priceSegmentPool(
+            @Value("${pricing.segments.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int parallelism) {
+        return new ForkJoinPool(Math.max(1, parallelism), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("price-segments-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
     }
 }
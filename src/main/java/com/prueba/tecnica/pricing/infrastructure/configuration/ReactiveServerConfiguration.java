@@ -0,0 +1,23 @@
+package com.prueba.tecnica.pricing.infrastructure.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Web server of the reactive stack.
+ * Tomcat is on the classpath for the servlet stack, and Spring Boot prefers it over Netty for reactive
+ * applications too, serving WebFlux through a blocking-capable servlet adapter and its worker pool.
+ * Declaring the Netty factory runs the reactive stack on Netty's event loops, sized with
+ * {@code -Dreactor.netty.ioWorkerCount}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,24 @@
+package com.prueba.tecnica.pricing.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.prueba.tecnica.pricing.infrastructure.metrics.StageTimingInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registers the stage timing of the price lookup endpoints.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMetricsConfiguration implements WebMvcConfigurer {
+
+    private final StageTimingInterceptor stageTimingInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(stageTimingInterceptor).addPathPatterns("/api/v1/prices", "/api/v1/prices/batch");
+    }
+}
@@ -0,0 +1,46 @@
+package com.prueba.tecnica.pricing.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
+import com.prueba.tecnica.pricing.infrastructure.metrics.PricingMetrics.Stage;
+
+/**
+ * Decorator recording the use case stage latency and the found / not found outcome of each lookup.
+ */
+public class MeteredPriceQueryUseCase implements PriceQueryUseCase {
+
+    private final PriceQueryUseCase delegate;
+    private final PricingMetrics pricingMetrics;
+
+    public MeteredPriceQueryUseCase(PriceQueryUseCase delegate, PricingMetrics pricingMetrics) {
+        this.delegate = delegate;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public PriceResult getApplicablePrice(long brandId, long productId, long applicationDate) {
+        try {
+            PriceResult priceResult = pricingMetrics.time(Stage.USE_CASE,
+                    () -> delegate.getApplicablePrice(brandId, productId, applicationDate));
+            pricingMetrics.recordLookup(brandId, true);
+            return priceResult;
+        } catch (PriceNotFoundException e) {
+            pricingMetrics.recordLookup(brandId, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Optional<PriceResult>> getApplicablePrices(List<PriceQuery> queries) {
+        List<Optional<PriceResult>> priceResults = pricingMetrics.time(Stage.USE_CASE, () -> delegate.getApplicablePrices(queries));
+        for (int i = 0; i < queries.size(); i++) {
+            pricingMetrics.recordLookup(queries.get(i).brandId(), priceResults.get(i).isPresent());
+        }
+        return priceResults;
+    }
+}
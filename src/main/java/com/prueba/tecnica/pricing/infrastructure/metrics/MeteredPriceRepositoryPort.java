@@ -0,0 +1,39 @@
+package com.prueba.tecnica.pricing.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.metrics.PricingMetrics.Stage;
+
+/**
+ * Decorator recording the repository stage latency of any price repository adapter.
+ */
+public class MeteredPriceRepositoryPort implements PriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final PricingMetrics pricingMetrics;
+
+    public MeteredPriceRepositoryPort(PriceRepositoryPort delegate, PricingMetrics pricingMetrics) {
+        this.delegate = delegate;
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        return pricingMetrics.time(Stage.REPOSITORY, () -> delegate.findApplicablePrices(brandId, productId, applicationDate));
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        return pricingMetrics.time(Stage.REPOSITORY, () -> delegate.findApplicableSegment(brandId, productId, applicationDate));
+    }
+
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceQuery> queries) {
+        return pricingMetrics.time(Stage.REPOSITORY, () -> delegate.findApplicablePrices(queries));
+    }
+}
@@ -0,0 +1,117 @@
+package com.prueba.tecnica.pricing.infrastructure.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of the price lookup path.
+ * <ul>
+ *   <li>{@code pricing.stage}: latency of each stage, tagged by {@link Stage}, with a percentile histogram</li>
+ *   <li>{@code pricing.lookups}: lookups tagged by brand and outcome ({@code found} / {@code not_found})</li>
+ * </ul>
+ * Timers are registered once, and brand tags are limited to {@code pricing.metrics.max-brand-tags}
+ * distinct brands; any further brand is tagged {@code other} so client input cannot grow the
+ * number of series. Product ids are never used as tags.
+ */
+@Component
+public class PricingMetrics {
+
+    public static final String STAGE_TIMER = "pricing.stage";
+    public static final String LOOKUP_COUNTER = "pricing.lookups";
+    static final String OTHER_BRAND = "other";
+
+    public enum Stage {
+        CONTROLLER("controller"),
+        USE_CASE("use_case"),
+        REPOSITORY("repository"),
+        MAPPING("mapping");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int maxBrandTags;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Long, LookupCounters> lookupCounters = new ConcurrentHashMap<>();
+    private final AtomicInteger brandTags = new AtomicInteger();
+    private final LookupCounters otherBrandCounters;
+
+    public PricingMetrics(MeterRegistry meterRegistry, @Value("${pricing.metrics.max-brand-tags:50}") int maxBrandTags) {
+        this.meterRegistry = meterRegistry;
+        this.maxBrandTags = maxBrandTags;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Latency of each stage of a price lookup")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.otherBrandCounters = new LookupCounters(OTHER_BRAND);
+    }
+
+    /**
+     * Run the given stage, recording its latency.
+     */
+    public <T> T time(Stage stage, Supplier<T> stageCall) {
+        return stageTimers.get(stage).record(stageCall);
+    }
+
+    /**
+     * Record the latency of a stage measured by the caller.
+     */
+    public void record(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Count a lookup of the given brand by outcome.
+     */
+    public void recordLookup(Long brandId, boolean found) {
+        LookupCounters counters = lookupCounters.get(brandId);
+        if (counters == null) {
+            // A tag slot is reserved inside the atomic insert, so racing brands cannot exceed the cap
+            counters = brandTags.get() < maxBrandTags
+                    ? lookupCounters.computeIfAbsent(brandId, id -> brandTags.getAndIncrement() < maxBrandTags
+                            ? new LookupCounters(String.valueOf(id))
+                            : null)
+                    : null;
+            if (counters == null) {
+                counters = otherBrandCounters;
+            }
+        }
+        (found ? counters.found : counters.notFound).increment();
+    }
+
+    private final class LookupCounters {
+        private final Counter found;
+        private final Counter notFound;
+
+        private LookupCounters(String brand) {
+            this.found = lookupCounter(brand, "found");
+            this.notFound = lookupCounter(brand, "not_found");
+        }
+
+        private Counter lookupCounter(String brand, String outcome) {
+            return Counter.builder(LOOKUP_COUNTER)
+                    .description("Price lookups by brand and outcome")
+                    .tag("brand", brand)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
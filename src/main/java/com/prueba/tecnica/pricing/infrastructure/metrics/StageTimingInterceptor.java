@@ -0,0 +1,74 @@
+package com.prueba.tecnica.pricing.infrastructure.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.prueba.tecnica.pricing.application.controller.PriceController;
+import com.prueba.tecnica.pricing.infrastructure.metrics.PricingMetrics.Stage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times the web stages of a price lookup from outside the controller.
+ * <ul>
+ *   <li>{@link Stage#CONTROLLER}: from the interceptor's pre-handle to request completion</li>
+ *   <li>{@link Stage#MAPPING}: from the moment the controller hands its response body over to
+ *       completion, i.e. encoding the response DTO</li>
+ * </ul>
+ * Metrics are optional: web slices without a {@link PricingMetrics} bean skip the timing.
+ */
+@ControllerAdvice(assignableTypes = PriceController.class)
+public class StageTimingInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final String HANDLER_START = StageTimingInterceptor.class.getName() + ".handlerStart";
+    private static final String BODY_START = StageTimingInterceptor.class.getName() + ".bodyStart";
+
+    private final ObjectProvider<PricingMetrics> pricingMetrics;
+
+    public StageTimingInterceptor(ObjectProvider<PricingMetrics> pricingMetrics) {
+        this.pricingMetrics = pricingMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(HANDLER_START, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(BODY_START, System.nanoTime());
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long end = System.nanoTime();
+        pricingMetrics.ifAvailable(metrics -> {
+            if (request.getAttribute(HANDLER_START) instanceof Long handlerStart) {
+                metrics.record(Stage.CONTROLLER, end - handlerStart);
+            }
+            if (request.getAttribute(BODY_START) instanceof Long bodyStart) {
+                metrics.record(Stage.MAPPING, end - bodyStart);
+            }
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the number of threads running database work at the same time.
+ * With virtual threads the servlet container no longer bounds concurrency, so without a cap
+ * thousands of request threads would queue inside the connection pool. The limit should match
+ * the connection pool size; callers that cannot get a permit within the acquire timeout fail fast
+ * with a {@link TransientDataAccessResourceException}.
+ */
+@Component
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public DatabaseConcurrencyLimiter(
+            @Value("${pricing.db.max-concurrency:10}") int maxConcurrency,
+            @Value("${pricing.db.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Run the given database work once a permit is available.
+     *
+     * @param databaseCall the work to run
+     * @return the result of the work
+     */
+    public <T> T call(Supplier<T> databaseCall) {
+        acquire();
+        try {
+            return databaseCall.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new TransientDataAccessResourceException(
+                        "No database permit available within " + acquireTimeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientDataAccessResourceException("Interrupted while waiting for a database permit", e);
+        }
+    }
+}
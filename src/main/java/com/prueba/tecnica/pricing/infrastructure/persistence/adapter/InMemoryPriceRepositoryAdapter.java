@@ -0,0 +1,95 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapter implementing the price repository port with an in-memory interval index.
+ * The PRICES table is loaded once at startup and resolved into a {@link PriceTimeline}
+ * per brand and product, so lookups never reach the database. On a {@link PricesChangedEvent}
+ * the timelines of the changed products are reloaded and replaced one by one; lookups of other
+ * products are not affected.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "in-memory")
+@DependsOnDatabaseInitialization
+@Slf4j
+public class InMemoryPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Products reloaded per query on a change.
+     */
+    private static final int PRODUCTS_PER_QUERY = 200;
+
+    private final JpaPriceRepository jpaPriceRepository;
+    private final Map<PriceKey, PriceTimeline> timelines;
+
+    public InMemoryPriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findAll().stream()
+                .map(PriceEntityMapper::toDomain)
+                .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+
+        Map<PriceKey, PriceTimeline> index = new ConcurrentHashMap<>(pricesByKey.size() * 2);
+        pricesByKey.forEach((key, prices) -> index.put(key, PriceTimeline.of(prices)));
+        this.timelines = index;
+
+        log.info("Loaded in-memory price index with {} timelines", timelines.size());
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        return timelines.getOrDefault(new PriceKey(brandId, productId), PriceTimeline.empty())
+                .priceAt(applicationDate);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        return timelines.getOrDefault(new PriceKey(brandId, productId), PriceTimeline.empty())
+                .segmentAt(applicationDate);
+    }
+
+    /**
+     * Reload the timelines of the changed products. Changes are applied one event at a time, so a
+     * slower reload cannot overwrite the result of a later one.
+     */
+    @EventListener
+    public synchronized void onPricesChanged(PricesChangedEvent event) {
+        List<PriceKey> keys = List.copyOf(event.keys());
+        for (int from = 0; from < keys.size(); from += PRODUCTS_PER_QUERY) {
+            List<PriceKey> chunk = keys.subList(from, Math.min(from + PRODUCTS_PER_QUERY, keys.size()));
+            Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findProductsPrices(
+                            chunk.stream().map(PriceKey::brandId).toArray(Long[]::new),
+                            chunk.stream().map(PriceKey::productId).toArray(Long[]::new)).stream()
+                    .map(PriceEntityMapper::toDomain)
+                    .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+            for (PriceKey key : chunk) {
+                List<Price> prices = pricesByKey.get(key);
+                if (prices == null) {
+                    timelines.remove(key);
+                } else {
+                    timelines.put(key, PriceTimeline.of(prices));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceBulkWriterPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter implementing bulk price writes with JDBC batch inserts.
+ * Each chunk is one transaction and one batch, bypassing the JPA persistence context.
+ * A {@link PricesChangedEvent} with the products of the chunk is published once it is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcPriceBulkWriterAdapter implements PriceBulkWriterPort {
+
+    private static final String INSERT_PRICE = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void insertAll(List<Price> prices) {
+        databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(INSERT_PRICE, prices, prices.size(), (statement, price) -> {
+                    statement.setLong(1, price.getBrandId());
+                    statement.setTimestamp(2, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getStartDate())));
+                    statement.setTimestamp(3, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getEndDate())));
+                    statement.setLong(4, price.getPriceList());
+                    statement.setLong(5, price.getProductId());
+                    statement.setInt(6, price.getPriority());
+                    statement.setBigDecimal(7, PriceUnits.toAmount(price.getPrice()));
+                    statement.setString(8, price.getCurrency());
+                })));
+
+        Set<PriceKey> changed = new LinkedHashSet<>();
+        for (Price price : prices) {
+            changed.add(new PriceKey(price.getBrandId(), price.getProductId()));
+        }
+        applicationEventPublisher.publishEvent(new PricesChangedEvent(changed));
+    }
+}
@@ -0,0 +1,92 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceHistoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+
+/**
+ * Adapter implementing the price history port with a forward-only, read-only JDBC cursor.
+ * Rows are fetched {@code pricing.timeline.fetch-size} at a time and handed to the caller as they are
+ * read, so a brand-wide period is never buffered. Both queries are range scans of
+ * {@code idx_prices_start_range}, which already returns the rows of a brand by product.
+ * The connection and a {@link DatabaseConcurrencyLimiter} permit are held until the last row is consumed.
+ */
+@Component
+public class JdbcPriceHistoryAdapter implements PriceHistoryPort {
+
+    private static final String SELECT_PRODUCT_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE < ? AND END_DATE >= ?
+            """;
+
+    private static final String SELECT_BRAND_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = ? AND START_DATE < ? AND END_DATE >= ?
+            ORDER BY BRAND_ID, PRODUCT_ID
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final int fetchSize;
+
+    public JdbcPriceHistoryAdapter(JdbcTemplate jdbcTemplate, DatabaseConcurrencyLimiter databaseConcurrencyLimiter,
+            @Value("${pricing.timeline.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void forEachProductPrice(long brandId, long productId, long from, long to, Consumer<Price> action) {
+        stream(SELECT_PRODUCT_PRICES, action, brandId, productId, timestamp(to), timestamp(from));
+    }
+
+    @Override
+    public void forEachBrandPrice(long brandId, long from, long to, Consumer<Price> action) {
+        stream(SELECT_BRAND_PRICES, action, brandId, timestamp(to), timestamp(from));
+    }
+
+    private void stream(String sql, Consumer<Price> action, Object... parameters) {
+        PreparedStatementCreator cursor = (Connection connection) -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement;
+        };
+        RowCallbackHandler handler = resultSet -> action.accept(Price.of(
+                resultSet.getLong("BRAND_ID"),
+                resultSet.getTimestamp("START_DATE").toLocalDateTime(),
+                resultSet.getTimestamp("END_DATE").toLocalDateTime(),
+                resultSet.getLong("PRICE_LIST"),
+                resultSet.getLong("PRODUCT_ID"),
+                resultSet.getInt("PRIORITY"),
+                resultSet.getBigDecimal("PRICE"),
+                resultSet.getString("CURR")));
+        databaseConcurrencyLimiter.call(() -> {
+            jdbcTemplate.query(cursor, handler);
+            return null;
+        });
+    }
+
+    private static Timestamp timestamp(long epochMicros) {
+        return Timestamp.valueOf(PriceUnits.toLocalDateTime(epochMicros));
+    }
+}
@@ -0,0 +1,199 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Adapter implementing the price repository port with plain JDBC, without Hibernate or a cache:
+ * every lookup is one indexed query whose rows are read straight into {@link Price}, with no entity,
+ * persistence context or dirty-checking snapshot in between.
+ * <p>
+ * Queries run on {@code pricing.jdbc.readers} readers, each owning a pooled connection and its
+ * statements prepared once, so a lookup only binds parameters and executes. The readers also cap
+ * the number of concurrent queries; a caller that gets none within {@code pricing.db.acquire-timeout}
+ * fails with a {@link TransientDataAccessResourceException}. A reader whose query fails releases its
+ * connection and prepares its statements again on a new one the next time it is used.
+ * <p>
+ * A point lookup runs the {@code LIMIT 1} winner query over {@code idx_prices_today}. The timeline
+ * segment of a lookup needs the other prices of the product to know when the winner stops applying,
+ * so it reads every price of the product, the same query a cache miss of the {@code jpa} adapter runs.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "jdbc")
+public class JdbcPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    static final String SELECT_BEST_PRICE = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+            ORDER BY PRIORITY DESC, PRICE DESC
+            LIMIT 1
+            """;
+
+    static final String SELECT_PRODUCT_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = ? AND PRODUCT_ID = ?
+            """;
+
+    private final DataSource dataSource;
+    private final BlockingQueue<Reader> readers;
+    private final Duration acquireTimeout;
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    public JdbcPriceRepositoryAdapter(DataSource dataSource,
+            @Value("${pricing.jdbc.readers:4}") int readers,
+            @Value("${pricing.db.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.dataSource = dataSource;
+        this.readers = new ArrayBlockingQueue<>(readers, true);
+        for (int i = 0; i < readers; i++) {
+            this.readers.add(new Reader());
+        }
+        this.acquireTimeout = acquireTimeout;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        Timestamp instant = Timestamp.valueOf(PriceUnits.toLocalDateTime(applicationDate));
+        return read(SELECT_BEST_PRICE, reader -> reader.bestPrice(brandId, productId, instant));
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        List<Price> prices = read(SELECT_PRODUCT_PRICES, reader -> reader.productPrices(brandId, productId));
+        return PriceTimeline.of(prices).segmentAt(applicationDate);
+    }
+
+    @PreDestroy
+    public void close() {
+        readers.forEach(Reader::close);
+    }
+
+    private <T> T read(String sql, ReaderCall<T> call) {
+        Reader reader = acquire();
+        try {
+            return call.apply(reader);
+        } catch (SQLException e) {
+            reader.close();
+            DataAccessException translated = exceptionTranslator.translate("Price lookup", sql, e);
+            throw translated != null ? translated : new UncategorizedSQLException("Price lookup", sql, e);
+        } finally {
+            readers.add(reader);
+        }
+    }
+
+    private Reader acquire() {
+        try {
+            Reader reader = readers.poll(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            if (reader == null) {
+                throw new TransientDataAccessResourceException(
+                        "No price reader available within " + acquireTimeout.toMillis() + " ms");
+            }
+            return reader;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientDataAccessResourceException("Interrupted while waiting for a price reader", e);
+        }
+    }
+
+    static Price toPrice(ResultSet resultSet) throws SQLException {
+        return Price.of(
+                resultSet.getLong(1),
+                resultSet.getTimestamp(2).toLocalDateTime(),
+                resultSet.getTimestamp(3).toLocalDateTime(),
+                resultSet.getLong(4),
+                resultSet.getLong(5),
+                resultSet.getInt(6),
+                resultSet.getBigDecimal(7),
+                resultSet.getString(8));
+    }
+
+    @FunctionalInterface
+    private interface ReaderCall<T> {
+        T apply(Reader reader) throws SQLException;
+    }
+
+    /**
+     * A connection with the lookup statements prepared on it, used by one caller at a time.
+     */
+    private final class Reader {
+
+        private Connection connection;
+        private PreparedStatement bestPrice;
+        private PreparedStatement productPrices;
+
+        Optional<Price> bestPrice(long brandId, long productId, Timestamp instant) throws SQLException {
+            open();
+            bestPrice.setLong(1, brandId);
+            bestPrice.setLong(2, productId);
+            bestPrice.setTimestamp(3, instant);
+            bestPrice.setTimestamp(4, instant);
+            try (ResultSet resultSet = bestPrice.executeQuery()) {
+                return resultSet.next() ? Optional.of(toPrice(resultSet)) : Optional.empty();
+            }
+        }
+
+        List<Price> productPrices(long brandId, long productId) throws SQLException {
+            open();
+            productPrices.setLong(1, brandId);
+            productPrices.setLong(2, productId);
+            List<Price> prices = new ArrayList<>();
+            try (ResultSet resultSet = productPrices.executeQuery()) {
+                while (resultSet.next()) {
+                    prices.add(toPrice(resultSet));
+                }
+            }
+            return prices;
+        }
+
+        void close() {
+            JdbcUtils.closeStatement(bestPrice);
+            JdbcUtils.closeStatement(productPrices);
+            JdbcUtils.closeConnection(connection);
+            connection = null;
+            bestPrice = null;
+            productPrices = null;
+        }
+
+        private void open() throws SQLException {
+            if (connection != null) {
+                return;
+            }
+            connection = dataSource.getConnection();
+            connection.setReadOnly(true);
+            bestPrice = connection.prepareStatement(SELECT_BEST_PRICE);
+            productPrices = connection.prepareStatement(SELECT_PRODUCT_PRICES);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceWriterPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter implementing single price row writes with JDBC.
+ * Each write is one transaction. Once it is committed, a {@link PricesChangedEvent} carrying only the
+ * affected brands and products is published, so the timeline cache, the in-memory index and the
+ * price segments refresh those products and every other entry stays warm.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcPriceWriterAdapter implements PriceWriterPort {
+
+    private static final String SELECT_PRICE = """
+            SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES WHERE ID = ?
+            """;
+
+    private static final String SELECT_PRICE_FOR_UPDATE = SELECT_PRICE + " FOR UPDATE";
+
+    private static final String INSERT_PRICE = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_PRICE = """
+            UPDATE PRICES SET BRAND_ID = ?, START_DATE = ?, END_DATE = ?, PRICE_LIST = ?, PRODUCT_ID = ?,
+                PRIORITY = ?, PRICE = ?, CURR = ?
+            WHERE ID = ?
+            """;
+
+    private static final String DELETE_PRICE = "DELETE FROM PRICES WHERE ID = ?";
+
+    private static final RowMapper<StoredPrice> STORED_PRICE_ROW_MAPPER = (resultSet, rowNum) -> new StoredPrice(
+            resultSet.getLong("ID"),
+            Price.of(
+                    resultSet.getLong("BRAND_ID"),
+                    resultSet.getTimestamp("START_DATE").toLocalDateTime(),
+                    resultSet.getTimestamp("END_DATE").toLocalDateTime(),
+                    resultSet.getLong("PRICE_LIST"),
+                    resultSet.getLong("PRODUCT_ID"),
+                    resultSet.getInt("PRIORITY"),
+                    resultSet.getBigDecimal("PRICE"),
+                    resultSet.getString("CURR")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public Optional<StoredPrice> findById(long id) {
+        return databaseConcurrencyLimiter.call(() ->
+                jdbcTemplate.query(SELECT_PRICE, STORED_PRICE_ROW_MAPPER, id)).stream().findFirst();
+    }
+
+    @Override
+    public StoredPrice create(Price price) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(status ->
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(INSERT_PRICE, new String[] {"ID"});
+                    bind(statement, price);
+                    return statement;
+                }, keyHolder)));
+
+        publishChanged(Set.of(keyOf(price)));
+        return new StoredPrice(keyHolder.getKey().longValue(), price);
+    }
+
+    @Override
+    public Optional<StoredPrice> update(long id, Price price) {
+        Optional<StoredPrice> previous = databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(status -> {
+            List<StoredPrice> current = jdbcTemplate.query(SELECT_PRICE_FOR_UPDATE, STORED_PRICE_ROW_MAPPER, id);
+            if (current.isEmpty()) {
+                return Optional.<StoredPrice>empty();
+            }
+            jdbcTemplate.update(UPDATE_PRICE, statement -> {
+                bind(statement, price);
+                statement.setLong(9, id);
+            });
+            return Optional.of(current.get(0));
+        }));
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<PriceKey> changed = new LinkedHashSet<>();
+        changed.add(keyOf(previous.get().price()));
+        changed.add(keyOf(price));
+        publishChanged(changed);
+        return Optional.of(new StoredPrice(id, price));
+    }
+
+    @Override
+    public boolean delete(long id) {
+        Optional<StoredPrice> deleted = databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(status -> {
+            List<StoredPrice> current = jdbcTemplate.query(SELECT_PRICE_FOR_UPDATE, STORED_PRICE_ROW_MAPPER, id);
+            if (current.isEmpty()) {
+                return Optional.<StoredPrice>empty();
+            }
+            jdbcTemplate.update(DELETE_PRICE, id);
+            return Optional.of(current.get(0));
+        }));
+        deleted.ifPresent(row -> publishChanged(Set.of(keyOf(row.price()))));
+        return deleted.isPresent();
+    }
+
+    private void publishChanged(Set<PriceKey> keys) {
+        applicationEventPublisher.publishEvent(new PricesChangedEvent(keys));
+    }
+
+    private static PriceKey keyOf(Price price) {
+        return new PriceKey(price.getBrandId(), price.getProductId());
+    }
+
+    private static void bind(PreparedStatement statement, Price price) throws SQLException {
+        statement.setLong(1, price.getBrandId());
+        statement.setTimestamp(2, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getStartDate())));
+        statement.setTimestamp(3, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getEndDate())));
+        statement.setLong(4, price.getPriceList());
+        statement.setLong(5, price.getProductId());
+        statement.setInt(6, price.getPriority());
+        statement.setBigDecimal(7, PriceUnits.toAmount(price.getPrice()));
+        statement.setString(8, price.getCurrency());
+    }
+}
@@ -0,0 +1,187 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.offheap.OffHeapPriceStore;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapter implementing the price repository port over an {@link OffHeapPriceStore}, so the resolved
+ * timelines of the whole catalog live in direct memory and the heap holds no price objects between
+ * lookups, however large the catalog.
+ * <p>
+ * The store is built at startup from one forward-only read of PRICES by brand and product; only one
+ * product's prices are on the heap at a time. Products changed afterwards are reloaded from the database
+ * on a {@link PricesChangedEvent} and answered from those on-heap timelines, which shadow the store.
+ * Once {@code pricing.off-heap.max-changed-products} products are shadowed, the store is rebuilt in the
+ * background, checked every {@code pricing.off-heap.compact-interval}, and the shadows of changes applied
+ * before the rebuild started are dropped.
+ * <p>
+ * Meters: {@code pricing.off-heap.size} is the direct memory of the store in bytes, and
+ * {@code pricing.off-heap.changed} the number of products shadowed on the heap.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "off-heap")
+@DependsOnDatabaseInitialization
+@Slf4j
+public class OffHeapPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Products reloaded per query on a change.
+     */
+    private static final int PRODUCTS_PER_QUERY = 200;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String COUNT_PRICES = "SELECT COUNT(*) FROM PRICES";
+
+    private static final String SELECT_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            ORDER BY BRAND_ID, PRODUCT_ID
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JpaPriceRepository jpaPriceRepository;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final int maxChangedProducts;
+    private final Map<PriceKey, Changed> changed = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private volatile OffHeapPriceStore store;
+
+    public OffHeapPriceRepositoryAdapter(JdbcTemplate jdbcTemplate, JpaPriceRepository jpaPriceRepository,
+            DatabaseConcurrencyLimiter databaseConcurrencyLimiter, MeterRegistry meterRegistry,
+            @Value("${pricing.off-heap.max-changed-products:10000}") int maxChangedProducts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+        this.maxChangedProducts = maxChangedProducts;
+        this.store = load();
+        Gauge.builder("pricing.off-heap.size", this, adapter -> adapter.store.sizeInBytes())
+                .description("Direct memory held by the off-heap price store")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("pricing.off-heap.changed", changed, Map::size)
+                .description("Products changed since the off-heap price store was built, held on the heap")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        if (!changed.isEmpty()) {
+            Changed product = changed.get(new PriceKey(brandId, productId));
+            if (product != null) {
+                return product.timeline().segmentAt(applicationDate);
+            }
+        }
+        return store.segmentAt(brandId, productId, applicationDate);
+    }
+
+    /**
+     * Reload the timelines of the changed products, which then shadow the store.
+     * Changes are applied one event at a time, so a slower reload cannot overwrite the result of a later one.
+     */
+    @EventListener
+    public synchronized void onPricesChanged(PricesChangedEvent event) {
+        List<PriceKey> keys = List.copyOf(event.keys());
+        for (int from = 0; from < keys.size(); from += PRODUCTS_PER_QUERY) {
+            List<PriceKey> chunk = keys.subList(from, Math.min(from + PRODUCTS_PER_QUERY, keys.size()));
+            Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findProductsPrices(
+                            chunk.stream().map(PriceKey::brandId).toArray(Long[]::new),
+                            chunk.stream().map(PriceKey::productId).toArray(Long[]::new)).stream()
+                    .map(PriceEntityMapper::toDomain)
+                    .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+            for (PriceKey key : chunk) {
+                PriceTimeline timeline = PriceTimeline.of(pricesByKey.getOrDefault(key, List.of()));
+                changed.put(key, new Changed(timeline, changes.incrementAndGet()));
+            }
+        }
+    }
+
+    /**
+     * Rebuild the store once too many products are shadowed on the heap. Products changed while the
+     * table is read keep their shadow, as the read may have missed their change.
+     */
+    @Scheduled(fixedDelayString = "${pricing.off-heap.compact-interval:PT1M}",
+            initialDelayString = "${pricing.off-heap.compact-interval:PT1M}")
+    public void compact() {
+        if (changed.size() < maxChangedProducts) {
+            return;
+        }
+        long appliedBefore = changes.get();
+        store = load();
+        changed.entrySet().removeIf(entry -> entry.getValue().change() <= appliedBefore);
+    }
+
+    private OffHeapPriceStore load() {
+        long start = System.nanoTime();
+        Long rows = jdbcTemplate.queryForObject(COUNT_PRICES, Long.class);
+        OffHeapPriceStore.Builder builder = OffHeapPriceStore.builder(rows == null ? 0 : rows);
+        List<Price> product = new ArrayList<>();
+        PreparedStatementCreator cursor = connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_PRICES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        };
+        databaseConcurrencyLimiter.call(() -> {
+            jdbcTemplate.query(cursor, resultSet -> {
+                Price price = JdbcPriceRepositoryAdapter.toPrice(resultSet);
+                if (!product.isEmpty() && (product.get(0).getBrandId() != price.getBrandId()
+                        || product.get(0).getProductId() != price.getProductId())) {
+                    append(builder, product);
+                }
+                product.add(price);
+            });
+            return null;
+        });
+        append(builder, product);
+        OffHeapPriceStore built = builder.build();
+        log.info("Built off-heap price store of {} products and {} segments in {} MB ({} ms)",
+                built.products(), built.segments(), built.sizeInBytes() / (1024 * 1024),
+                (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private static void append(OffHeapPriceStore.Builder builder, List<Price> product) {
+        if (!product.isEmpty()) {
+            builder.add(product.get(0).getBrandId(), product.get(0).getProductId(), PriceTimeline.of(product));
+            product.clear();
+        }
+    }
+
+    /**
+     * The timeline of a product changed since the store was built, and the number of the change applying it.
+     */
+    private record Changed(PriceTimeline timeline, long change) {
+    }
+}
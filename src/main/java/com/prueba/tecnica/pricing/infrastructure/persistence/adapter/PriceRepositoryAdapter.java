@@ -1,41 +1,53 @@
 package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
 import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
-import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+import com.prueba.tecnica.pricing.infrastructure.persistence.cache.PriceTimelineCache;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Adapter implementing the price repository port using JPA.
+ * Lookups are answered from the resolved timeline of the product, loaded from the database
+ * on a cache miss.
  */
 @Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "jpa", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PriceRepositoryAdapter implements PriceRepositoryPort {
     
-    private final JpaPriceRepository jpaPriceRepository;
+    private final PriceTimelineCache priceTimelineCache;
     
     @Override
-    public Optional<Price> findApplicablePrices(Long brandId, Long productId, LocalDateTime applicationDate) {
-    return jpaPriceRepository
-        .findBestApplicablePrice(brandId, productId, applicationDate)
-            .map(entity -> new Price(
-            entity.getBrandId(),
-            entity.getStartDate(),
-            entity.getEndDate(),
-            entity.getPriceList(),
-            entity.getProductId(),
-            entity.getPriority(),
-            entity.getPrice(),
-            entity.getCurrency()
-        ));
+    public Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        return priceTimelineCache.get(new PriceKey(brandId, productId)).priceAt(applicationDate);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        return priceTimelineCache.get(new PriceKey(brandId, productId)).segmentAt(applicationDate);
+    }
+
+    /**
+     * Resolves the batch from cached timelines; all missing products are loaded together
+     * with one query per chunk of products instead of one query per lookup.
+     */
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceQuery> queries) {
+        Map<PriceKey, PriceTimeline> timelines = priceTimelineCache.getAll(queries.stream().map(PriceQuery::key).toList());
+        return queries.stream()
+                .map(query -> timelines.get(query.key()).priceAt(query.applicationDate()))
+                .toList();
     }
 }
@@ -0,0 +1,64 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.port.outbound.ReactivePriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.cache.PriceTimelineCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter implementing the non-blocking price repository port using R2DBC.
+ * Lookups are answered from the same timeline cache as {@link PriceRepositoryAdapter}; a miss reads
+ * the prices of the product through the R2DBC pool without holding a thread while the query runs.
+ * Concurrent database work is bounded by the size of the R2DBC pool ({@code spring.r2dbc.pool.max-size}).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepositoryPort {
+
+    static final String SELECT_PRODUCT_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final PriceTimelineCache priceTimelineCache;
+
+    @Override
+    public CompletionStage<Optional<PriceSegment>> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        return priceTimelineCache.getAsync(new PriceKey(brandId, productId), this::loadProductPrices)
+                .thenApply(timeline -> timeline.segmentAt(applicationDate));
+    }
+
+    private CompletionStage<List<Price>> loadProductPrices(PriceKey key) {
+        return databaseClient.sql(SELECT_PRODUCT_PRICES)
+                .bind("brandId", key.brandId())
+                .bind("productId", key.productId())
+                .map((row, metadata) -> Price.of(
+                        row.get("BRAND_ID", Long.class),
+                        row.get("START_DATE", LocalDateTime.class),
+                        row.get("END_DATE", LocalDateTime.class),
+                        row.get("PRICE_LIST", Long.class),
+                        row.get("PRODUCT_ID", Long.class),
+                        row.get("PRIORITY", Integer.class),
+                        row.get("PRICE", BigDecimal.class),
+                        row.get("CURR", String.class)))
+                .all()
+                .collectList()
+                .toFuture();
+    }
+}
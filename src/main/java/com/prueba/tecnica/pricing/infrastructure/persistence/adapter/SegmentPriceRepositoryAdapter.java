@@ -0,0 +1,71 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.segment.PriceSegmentMaterializer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adapter implementing the price repository port over the materialized PRICE_SEGMENTS table.
+ * Segments of a product never overlap, so the only candidate for an instant is the last segment
+ * starting at or before it. The inner query reads the primary key backwards from the instant and
+ * stops at that one row, with no sort and no priority tie-breaking at query time; the outer query
+ * then checks that the segment has not ended. Filtering on SEGMENT_END in the same WHERE would
+ * keep scanning earlier segments of the product whenever the instant falls in a gap.
+ * The table is maintained by {@link PriceSegmentMaterializer}, which fills it before this adapter is created.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "segments")
+@DependsOn("priceSegmentMaterializer")
+@RequiredArgsConstructor
+public class SegmentPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    static final String SELECT_SEGMENT = """
+            SELECT SEGMENT_START, SEGMENT_END, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM (
+                SELECT * FROM PRICE_SEGMENTS
+                WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND SEGMENT_START <= ?
+                ORDER BY BRAND_ID DESC, PRODUCT_ID DESC, SEGMENT_START DESC
+                LIMIT 1
+            ) s
+            WHERE s.SEGMENT_END > ?
+            """;
+
+    private static final RowMapper<PriceSegment> SEGMENT_ROW_MAPPER = (resultSet, rowNum) -> new PriceSegment(
+            PriceUnits.toEpochMicros(resultSet.getTimestamp("SEGMENT_START").toLocalDateTime()),
+            PriceUnits.toEpochMicros(resultSet.getTimestamp("SEGMENT_END").toLocalDateTime()),
+            Price.of(
+                    resultSet.getLong("BRAND_ID"),
+                    resultSet.getTimestamp("START_DATE").toLocalDateTime(),
+                    resultSet.getTimestamp("END_DATE").toLocalDateTime(),
+                    resultSet.getLong("PRICE_LIST"),
+                    resultSet.getLong("PRODUCT_ID"),
+                    resultSet.getInt("PRIORITY"),
+                    resultSet.getBigDecimal("PRICE"),
+                    resultSet.getString("CURR")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        Timestamp instant = Timestamp.valueOf(PriceUnits.toLocalDateTime(applicationDate));
+        List<PriceSegment> segments = databaseConcurrencyLimiter.call(() ->
+                jdbcTemplate.query(SELECT_SEGMENT, SEGMENT_ROW_MAPPER, brandId, productId, instant, instant));
+        return segments.stream().findFirst();
+    }
+}
@@ -0,0 +1,96 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+import com.prueba.tecnica.pricing.infrastructure.persistence.snapshot.PriceSnapshot;
+import com.prueba.tecnica.pricing.infrastructure.persistence.snapshot.PriceSnapshotExporter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapter implementing the price repository port over a memory-mapped {@link PriceSnapshot}.
+ * Startup maps {@code pricing.snapshot.file} instead of loading PRICES, so lookups are served
+ * before any query reaches the database; the file is exported from PRICES first only if it does
+ * not exist yet. Products changed after the snapshot was written are reloaded from the database on a
+ * {@link PricesChangedEvent} and answered from those timelines from then on.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "snapshot")
+@DependsOnDatabaseInitialization
+@Slf4j
+public class SnapshotPriceRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Products reloaded per query on a change.
+     */
+    private static final int PRODUCTS_PER_QUERY = 200;
+
+    private final JpaPriceRepository jpaPriceRepository;
+    private final PriceSnapshot snapshot;
+    private final Map<PriceKey, PriceTimeline> changed = new ConcurrentHashMap<>();
+
+    public SnapshotPriceRepositoryAdapter(JpaPriceRepository jpaPriceRepository,
+            PriceSnapshotExporter priceSnapshotExporter, @Value("${pricing.snapshot.file}") Path file) throws IOException {
+        this.jpaPriceRepository = jpaPriceRepository;
+        if (!Files.exists(file)) {
+            log.info("Price snapshot {} not found, exporting it from PRICES", file);
+            priceSnapshotExporter.export(file);
+        }
+        long start = System.nanoTime();
+        this.snapshot = PriceSnapshot.open(file);
+        log.info("Mapped price snapshot {} with {} segments in {} ms",
+                file, snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        if (!changed.isEmpty()) {
+            PriceTimeline timeline = changed.get(new PriceKey(brandId, productId));
+            if (timeline != null) {
+                return timeline.segmentAt(applicationDate);
+            }
+        }
+        return snapshot.segmentAt(brandId, productId, applicationDate);
+    }
+
+    /**
+     * Reload the timelines of the changed products, which then shadow their snapshot records.
+     * Changes are applied one event at a time, so a slower reload cannot overwrite the result of a later one.
+     */
+    @EventListener
+    public synchronized void onPricesChanged(PricesChangedEvent event) {
+        List<PriceKey> keys = List.copyOf(event.keys());
+        for (int from = 0; from < keys.size(); from += PRODUCTS_PER_QUERY) {
+            List<PriceKey> chunk = keys.subList(from, Math.min(from + PRODUCTS_PER_QUERY, keys.size()));
+            Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findProductsPrices(
+                            chunk.stream().map(PriceKey::brandId).toArray(Long[]::new),
+                            chunk.stream().map(PriceKey::productId).toArray(Long[]::new)).stream()
+                    .map(PriceEntityMapper::toDomain)
+                    .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+            for (PriceKey key : chunk) {
+                changed.put(key, PriceTimeline.of(pricesByKey.getOrDefault(key, List.of())));
+            }
+        }
+    }
+}
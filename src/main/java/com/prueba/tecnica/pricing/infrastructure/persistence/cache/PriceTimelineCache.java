@@ -0,0 +1,237 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of resolved price timelines, one entry per brand and product.
+ * Any application date of a cached product is answered from its timeline, so the hit ratio
+ * does not depend on the timestamps clients send. Products without prices are cached as
+ * empty timelines. The entry bound is set by {@code pricing.cache.max-products}.
+ * <p>
+ * Loads run outside of the cache's atomic compute, which holds a monitor while loading and
+ * would pin virtual threads to their carrier for the whole database round-trip. To keep a load
+ * that raced with an eviction from re-inserting the timeline it read before the change, every
+ * eviction bumps the generation of the key and a load only stores its result if the generation
+ * it started with is still current; both steps run inside the map's per-key compute.
+ * <p>
+ * Concurrent misses of the same product share one load through a {@link SingleFlight}, so a hot
+ * product that expires or is evicted costs one query rather than one per waiting request. Eviction
+ * stops the sharing of a load in flight, so requests arriving after a change never wait for a load
+ * that read the prices before it. Batch misses of {@link #getAll(Collection)} already load many
+ * products per query and are not coalesced. Meters:
+ * <ul>
+ *   <li>{@code pricing.cache.loads{result=loaded}}: timeline loads run on a miss</li>
+ *   <li>{@code pricing.cache.loads{result=coalesced}}: misses answered by a load already in flight, that is loads saved</li>
+ *   <li>{@code pricing.cache.loads.active}: loads in flight</li>
+ * </ul>
+ */
+@Component
+public class PriceTimelineCache {
+
+    public static final String CACHE_NAME = "prices";
+    public static final String LOADS_METER = "pricing.cache.loads";
+
+    /**
+     * Upper bound of distinct products loaded by a single query, to keep the IN lists small.
+     */
+    static final int MAX_PRODUCTS_PER_QUERY = 200;
+
+    /**
+     * Number of generation counters keys are spread over; keys sharing a counter only cost a discarded load.
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache cache;
+    private final ConcurrentMap<Object, Object> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final JpaPriceRepository jpaPriceRepository;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final SingleFlight<PriceKey, PriceTimeline> loads = new SingleFlight<>();
+
+    public PriceTimelineCache(CacheManager cacheManager, JpaPriceRepository jpaPriceRepository,
+            DatabaseConcurrencyLimiter databaseConcurrencyLimiter, MeterRegistry meterRegistry) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.entries = ((CaffeineCache) cache).getNativeCache().asMap();
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+        FunctionCounter.builder(LOADS_METER, loads, SingleFlight::loads)
+                .description("Timeline loads run on a cache miss")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        FunctionCounter.builder(LOADS_METER, loads, SingleFlight::coalesced)
+                .description("Cache misses answered by a timeline load already in flight")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder(LOADS_METER + ".active", loads, SingleFlight::inFlight)
+                .description("Timeline loads in flight")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the timeline of a product, loading it on a miss.
+     *
+     * @param key the brand and product
+     * @return the resolved timeline, empty if the product has no prices
+     */
+    public PriceTimeline get(PriceKey key) {
+        PriceTimeline cached = cache.get(key, PriceTimeline.class);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.load(key, () -> {
+            // A load that completed since the miss above has already stored the timeline
+            if (entries.get(key) instanceof PriceTimeline stored) {
+                return stored;
+            }
+            long generation = generation(key);
+            PriceTimeline loaded = load(key);
+            putIfCurrent(key, loaded, generation);
+            return loaded;
+        });
+    }
+
+    /**
+     * Get the timeline of a product without blocking, loading it on a miss with the given non-blocking
+     * loader. The loaded timeline is stored under the same generation check as {@link #get(PriceKey)}.
+     *
+     * @param key the brand and product
+     * @param loader reads the prices of a product
+     * @return a stage completed with the resolved timeline, empty if the product has no prices
+     */
+    public CompletionStage<PriceTimeline> getAsync(PriceKey key,
+            Function<PriceKey, ? extends CompletionStage<List<Price>>> loader) {
+        PriceTimeline cached = cache.get(key, PriceTimeline.class);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loads.loadAsync(key, () -> {
+            if (entries.get(key) instanceof PriceTimeline stored) {
+                return CompletableFuture.completedFuture(stored);
+            }
+            long generation = generation(key);
+            return loader.apply(key).thenApply(prices -> {
+                PriceTimeline loaded = PriceTimeline.of(prices);
+                putIfCurrent(key, loaded, generation);
+                return loaded;
+            });
+        });
+    }
+
+    /**
+     * Get the timelines of several products, loading all misses with one query per chunk of products.
+     *
+     * @param keys the brands and products
+     * @return the resolved timeline of every key
+     */
+    public Map<PriceKey, PriceTimeline> getAll(Collection<PriceKey> keys) {
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>(keys.size() * 2);
+        List<PriceKey> misses = new ArrayList<>();
+        for (PriceKey key : new HashSet<>(keys)) {
+            PriceTimeline cached = cache.get(key, PriceTimeline.class);
+            if (cached != null) {
+                timelines.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += MAX_PRODUCTS_PER_QUERY) {
+            List<PriceKey> chunk = misses.subList(from, Math.min(from + MAX_PRODUCTS_PER_QUERY, misses.size()));
+            long[] chunkGenerations = new long[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                chunkGenerations[i] = generation(chunk.get(i));
+            }
+            Map<PriceKey, PriceTimeline> loaded = loadAll(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                PriceKey key = chunk.get(i);
+                putIfCurrent(key, loaded.get(key), chunkGenerations[i]);
+                timelines.put(key, loaded.get(key));
+            }
+        }
+        return timelines;
+    }
+
+    /**
+     * Drop the cached timeline of a product, leaving every other entry warm.
+     *
+     * @param key the brand and product
+     */
+    public void evict(PriceKey key) {
+        entries.compute(key, (k, current) -> {
+            loads.forget(key);
+            generations.incrementAndGet(stripe(key));
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        event.keys().forEach(this::evict);
+    }
+
+    private long generation(PriceKey key) {
+        return generations.get(stripe(key));
+    }
+
+    private void putIfCurrent(PriceKey key, PriceTimeline timeline, long generation) {
+        entries.compute(key, (k, current) -> generations.get(stripe(key)) == generation ? timeline : current);
+    }
+
+    private static int stripe(PriceKey key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private PriceTimeline load(PriceKey key) {
+        return PriceTimeline.of(databaseConcurrencyLimiter.call(
+                () -> jpaPriceRepository.findProductPrices(key.brandId(), key.productId())).stream()
+                .map(PriceEntityMapper::toDomain)
+                .toList());
+    }
+
+    private Map<PriceKey, PriceTimeline> loadAll(List<PriceKey> keys) {
+        Long[] brandIds = keys.stream().map(PriceKey::brandId).toArray(Long[]::new);
+        Long[] productIds = keys.stream().map(PriceKey::productId).toArray(Long[]::new);
+        Map<PriceKey, List<Price>> pricesByKey = databaseConcurrencyLimiter.call(
+                () -> jpaPriceRepository.findProductsPrices(brandIds, productIds)).stream()
+                .map(PriceEntityMapper::toDomain)
+                .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>(keys.size() * 2);
+        for (PriceKey key : keys) {
+            timelines.put(key, PriceTimeline.of(pricesByKey.getOrDefault(key, List.of())));
+        }
+        return timelines;
+    }
+}
@@ -0,0 +1,133 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, and callers arriving
+ * while it is in flight wait for it and get its result or its exception instead of loading again.
+ * A load is shared only while it runs; once it completes, the next caller loads again.
+ * <p>
+ * The load runs on the thread of the first caller, outside of any lock, so a virtual thread is not
+ * pinned while it waits for the database; waiters park on the shared future.
+ *
+ * @param <K> the key type
+ * @param <V> the loaded value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Load the value of a key, or wait for the load of that key already in flight.
+     *
+     * @param key the key
+     * @param loader the load to run if none is in flight
+     * @return the loaded value
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Load the value of a key without blocking, or share the load of that key already in flight.
+     *
+     * @param key the key
+     * @param loader starts the load to run if none is in flight
+     * @return a stage completed with the loaded value
+     */
+    public CompletionStage<V> loadAsync(K key, Supplier<? extends CompletionStage<V>> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return running.minimalCompletionStage();
+        }
+        loads.increment();
+        CompletionStage<V> load;
+        try {
+            load = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            return flight.minimalCompletionStage();
+        }
+        load.whenComplete((value, error) -> {
+            flights.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.minimalCompletionStage();
+    }
+
+    /**
+     * Stop sharing the load of a key in flight, so that callers arriving from now on load again.
+     * Callers already waiting still get the result of that load.
+     *
+     * @param key the key
+     */
+    public void forget(K key) {
+        flights.remove(key);
+    }
+
+    /**
+     * @return the number of loads run
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /**
+     * @return the number of callers served by a load run for another caller, that is the number of loads saved
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of loads in flight
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.changelog;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies changes to PRICES made by any writer, this service or another one such as the ERP loader,
+ * by reading the PRICE_CHANGES log filled by {@link PriceChangeTrigger} every
+ * {@code pricing.changes.poll-interval} and publishing a {@link PricesChangedEvent} with the changed
+ * (brand, product) pairs, so the timeline cache and the in-memory adapters refresh those pairs only.
+ * <p>
+ * Changes are read in ID order after the last one applied, {@code pricing.changes.batch-size} at a time,
+ * one event per batch. IDs are assigned when a row is written, not when it is committed, so a change
+ * committed after a higher one was read leaves a gap behind the cursor. Gaps are read again on every poll
+ * for {@code pricing.changes.gap-timeout}, which must exceed the longest writing transaction; a gap
+ * still open after that is left for good, as IDs of rolled-back rows are never filled.
+ * <p>
+ * Changes made through this service were already applied when they were committed, and are applied
+ * again when polled; the log is shared, so other instances on the same database see them too.
+ * Log rows older than {@code pricing.changes.retention} are purged every {@code pricing.changes.purge-interval}.
+ * <p>
+ * Meters: {@code pricing.changes.refresh.lag} times, per applied change, from the start of the writing
+ * transaction to the publication of its event, and {@code pricing.changes.gaps} is the number of open gaps.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.changes.enabled", havingValue = "true", matchIfMissing = true)
+@DependsOnDatabaseInitialization
+@Slf4j
+public class PriceChangePoller {
+
+    public static final String REFRESH_LAG_TIMER = "pricing.changes.refresh.lag";
+
+    static final String SELECT_LAST_ID = "SELECT COALESCE(MAX(ID), 0) FROM PRICE_CHANGES";
+
+    static final String SELECT_CHANGES = """
+            SELECT ID, BRAND_ID, PRODUCT_ID, CHANGED_AT
+            FROM PRICE_CHANGES
+            WHERE ID > ?
+            ORDER BY ID
+            LIMIT ?
+            """;
+
+    static final String SELECT_GAP = """
+            SELECT ID, BRAND_ID, PRODUCT_ID, CHANGED_AT
+            FROM PRICE_CHANGES
+            WHERE ID BETWEEN ? AND ?
+            """;
+
+    static final String DELETE_CHANGES_BEFORE = "DELETE FROM PRICE_CHANGES WHERE CHANGED_AT < ?";
+
+    private static final RowMapper<Change> CHANGE_MAPPER = PriceChangePoller::toChange;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Timer refreshLag;
+
+    private final List<Gap> gaps = new ArrayList<>();
+    private long cursor;
+    private volatile int openGaps;
+
+    public PriceChangePoller(JdbcTemplate jdbcTemplate, ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${pricing.changes.batch-size:5000}") int batchSize,
+            @Value("${pricing.changes.gap-timeout:PT1M}") Duration gapTimeout,
+            @Value("${pricing.changes.retention:PT1H}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.refreshLag = Timer.builder(REFRESH_LAG_TIMER)
+                .description("Time from a change to PRICES to the refresh of its product")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("pricing.changes.gaps", this, poller -> poller.openGaps)
+                .description("Ranges of change log IDs possibly held by uncommitted transactions")
+                .register(meterRegistry);
+        // Every structure is loaded from PRICES after this point, so earlier changes are already reflected
+        Long lastId = jdbcTemplate.queryForObject(SELECT_LAST_ID, Long.class);
+        this.cursor = lastId == null ? 0 : lastId;
+    }
+
+    /**
+     * Apply the changes committed since the previous poll.
+     */
+    @Scheduled(fixedDelayString = "${pricing.changes.poll-interval:PT1S}",
+            initialDelayString = "${pricing.changes.poll-interval:PT1S}")
+    public synchronized void poll() {
+        pollGaps();
+        List<Change> changes;
+        do {
+            changes = jdbcTemplate.query(SELECT_CHANGES, CHANGE_MAPPER, cursor, batchSize);
+            for (Change change : changes) {
+                if (change.id() > cursor + 1) {
+                    gaps.add(new Gap(cursor + 1, change.id() - 1, System.nanoTime()));
+                }
+                cursor = change.id();
+            }
+            apply(changes);
+        } while (changes.size() == batchSize);
+        openGaps = gaps.size();
+    }
+
+    /**
+     * Delete the log rows older than the retention.
+     */
+    @Scheduled(fixedDelayString = "${pricing.changes.purge-interval:PT5M}",
+            initialDelayString = "${pricing.changes.purge-interval:PT5M}")
+    public void purge() {
+        int purged = jdbcTemplate.update(DELETE_CHANGES_BEFORE, OffsetDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} price change log rows", purged);
+        }
+    }
+
+    private void pollGaps() {
+        long now = System.nanoTime();
+        Iterator<Gap> iterator = gaps.iterator();
+        while (iterator.hasNext()) {
+            Gap gap = iterator.next();
+            List<Change> late = jdbcTemplate.query(SELECT_GAP, CHANGE_MAPPER, gap.first(), gap.last()).stream()
+                    .filter(change -> gap.applied().add(change.id()))
+                    .toList();
+            apply(late);
+            if (gap.applied().size() == gap.last() - gap.first() + 1
+                    || now - gap.openedAt() > gapTimeout.toNanos()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void apply(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<PriceKey> keys = new HashSet<>();
+        for (Change change : changes) {
+            keys.add(new PriceKey(change.brandId(), change.productId()));
+        }
+        applicationEventPublisher.publishEvent(new PricesChangedEvent(keys));
+        Instant applied = Instant.now();
+        for (Change change : changes) {
+            refreshLag.record(Duration.between(change.changedAt(), applied));
+        }
+        log.debug("Applied {} price changes to {} products", changes.size(), keys.size());
+    }
+
+    private static Change toChange(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Change(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3),
+                resultSet.getObject(4, OffsetDateTime.class).toInstant());
+    }
+
+    private record Change(long id, long brandId, long productId, Instant changedAt) {
+    }
+
+    /**
+     * IDs skipped by the cursor, with those read since.
+     */
+    private record Gap(long first, long last, long openedAt, Set<Long> applied) {
+
+        Gap(long first, long last, long openedAt) {
+            this(first, last, openedAt, new HashSet<>());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.changelog;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.h2.api.Trigger;
+
+/**
+ * H2 row trigger on PRICES logging the brand and product of every inserted, updated or deleted row to
+ * PRICE_CHANGES, in the transaction of the change, so the log is committed or rolled back with it.
+ * An update moving a row to another product logs both products.
+ * <p>
+ * Declared in {@code schema.sql}; H2 instantiates it by name, so it has no Spring dependencies.
+ */
+public class PriceChangeTrigger implements Trigger {
+
+    static final String INSERT_CHANGE = "INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (?, ?)";
+
+    private int brandIdColumn;
+    private int productIdColumn;
+
+    @Override
+    public void init(Connection connection, String schemaName, String triggerName, String tableName,
+            boolean before, int type) throws SQLException {
+        brandIdColumn = columnIndex(connection, schemaName, tableName, "BRAND_ID");
+        productIdColumn = columnIndex(connection, schemaName, tableName, "PRODUCT_ID");
+    }
+
+    @Override
+    public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CHANGE)) {
+            if (newRow != null) {
+                add(statement, newRow);
+            }
+            if (oldRow != null && (newRow == null || !sameKey(oldRow, newRow))) {
+                add(statement, oldRow);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void add(PreparedStatement statement, Object[] row) throws SQLException {
+        statement.setLong(1, ((Number) row[brandIdColumn]).longValue());
+        statement.setLong(2, ((Number) row[productIdColumn]).longValue());
+        statement.addBatch();
+    }
+
+    private boolean sameKey(Object[] oldRow, Object[] newRow) {
+        return oldRow[brandIdColumn].equals(newRow[brandIdColumn])
+                && oldRow[productIdColumn].equals(newRow[productIdColumn]);
+    }
+
+    private static int columnIndex(Connection connection, String schemaName, String tableName, String column)
+            throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(null, schemaName, tableName, column)) {
+            if (!columns.next()) {
+                throw new SQLException("Column " + column + " not found in " + schemaName + "." + tableName);
+            }
+            return columns.getInt("ORDINAL_POSITION") - 1;
+        }
+    }
+}
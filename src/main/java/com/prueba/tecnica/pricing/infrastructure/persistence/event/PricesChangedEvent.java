@@ -0,0 +1,14 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.event;
+
+import java.util.Set;
+
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+
+/**
+ * Published once a change to the PRICES table has been committed, so that every structure
+ * derived from it can refresh the affected products only.
+ *
+ * @param keys the brands and products whose prices changed
+ */
+public record PricesChangedEvent(Set<PriceKey> keys) {
+}
@@ -0,0 +1,64 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+
+/**
+ * Decorator answering lookups of (brand, product) pairs rejected by the {@link PriceKeyFilter} with no
+ * price, without calling the repository adapter.
+ */
+public class KeyFilteredPriceRepositoryPort implements PriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+    private final PriceKeyFilter priceKeyFilter;
+
+    public KeyFilteredPriceRepositoryPort(PriceRepositoryPort delegate, PriceKeyFilter priceKeyFilter) {
+        this.delegate = delegate;
+        this.priceKeyFilter = priceKeyFilter;
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrices(long brandId, long productId, long applicationDate) {
+        return priceKeyFilter.mightHavePrices(brandId, productId)
+                ? delegate.findApplicablePrices(brandId, productId, applicationDate)
+                : Optional.empty();
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(long brandId, long productId, long applicationDate) {
+        return priceKeyFilter.mightHavePrices(brandId, productId)
+                ? delegate.findApplicableSegment(brandId, productId, applicationDate)
+                : Optional.empty();
+    }
+
+    /**
+     * Passes only the queries of pairs that may have prices to the adapter, in one batch.
+     */
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceQuery> queries) {
+        List<Optional<Price>> results = new ArrayList<>(Collections.nCopies(queries.size(), Optional.empty()));
+        List<PriceQuery> passed = new ArrayList<>(queries.size());
+        List<Integer> positions = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            PriceQuery query = queries.get(i);
+            if (priceKeyFilter.mightHavePrices(query.brandId(), query.productId())) {
+                passed.add(query);
+                positions.add(i);
+            }
+        }
+        if (!passed.isEmpty()) {
+            List<Optional<Price>> found = delegate.findApplicablePrices(passed);
+            for (int i = 0; i < found.size(); i++) {
+                results.set(positions.get(i), found.get(i));
+            }
+        }
+        return results;
+    }
+}
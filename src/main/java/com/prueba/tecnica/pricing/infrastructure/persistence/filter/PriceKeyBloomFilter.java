@@ -0,0 +1,96 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of (brand, product) pairs. {@link #mightContain(long, long)} never answers {@code false}
+ * for an added pair, and answers {@code true} for a pair never added with about the false positive rate
+ * it was sized for, as long as no more pairs than its capacity are added.
+ * <p>
+ * The {@code k} bit positions of a pair are derived from two 64-bit hashes by double hashing. Bits are
+ * set with a compare-and-set per word, so adds and lookups may run concurrently without locking.
+ */
+final class PriceKeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+
+    private PriceKeyBloomFilter(long bitCount, int hashCount, long capacity) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param capacity the number of pairs the filter is sized for
+     * @param falsePositiveRate the false positive rate at capacity, between 0 and 1 exclusive
+     * @return an empty filter with the optimal number of bits and hash functions for the target
+     */
+    static PriceKeyBloomFilter withCapacity(long capacity, double falsePositiveRate) {
+        if (capacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Capacity must be positive and the false positive rate in (0, 1)");
+        }
+        long bitCount = Math.max(Long.SIZE, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+        return new PriceKeyBloomFilter(bitCount, hashCount, capacity);
+    }
+
+    void add(long brandId, long productId) {
+        long hash1 = hash(brandId, productId);
+        long hash2 = mix(hash1 ^ 0x5851F42D4C957F2DL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(long brandId, long productId) {
+        long hash1 = hash(brandId, productId);
+        long hash2 = mix(hash1 ^ 0x5851F42D4C957F2DL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the size of the bit array in bytes
+     */
+    long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private static long hash(long brandId, long productId) {
+        return mix(mix(brandId) + productId);
+    }
+
+    /**
+     * Final avalanche of MurmurHash3.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
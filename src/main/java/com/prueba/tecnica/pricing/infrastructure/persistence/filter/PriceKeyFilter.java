@@ -0,0 +1,119 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Membership filter of the (brand, product) pairs that have prices, so that lookups of pairs without
+ * any price are answered without reaching the repository.
+ * <p>
+ * The filter is a {@link PriceKeyBloomFilter} built from PRICES at startup, sized for
+ * {@code pricing.key-filter.headroom} times the pairs found, with a false positive rate of
+ * {@code pricing.key-filter.false-positive-rate}. It never rejects a pair that has prices:
+ * <ul>
+ *   <li>pairs changed by the application are added as soon as their {@link PricesChangedEvent} is published;</li>
+ *   <li>the filter is rebuilt every {@code pricing.key-filter.rebuild-interval}, which resizes it to the
+ *       catalog and drops pairs whose prices were all deleted. Pairs changed while a rebuild scans PRICES
+ *       are added to both the current and the new filter.</li>
+ * </ul>
+ * Rows written to PRICES behind the application's back are added once the change poller publishes them.
+ * <p>
+ * Meters: {@code pricing.key.filter.rejected} counts lookups answered by the filter, and
+ * {@code pricing.key.filter.size} is the size of its bit array in bytes.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.key-filter.enabled", havingValue = "true")
+@DependsOnDatabaseInitialization
+@Slf4j
+public class PriceKeyFilter {
+
+    public static final String REJECTED_COUNTER = "pricing.key.filter.rejected";
+
+    private static final String COUNT_KEYS = "SELECT COUNT(*) FROM (SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES) k";
+    private static final String SELECT_KEYS = "SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES";
+    private static final long MIN_CAPACITY = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double falsePositiveRate;
+    private final double headroom;
+    private final Counter rejected;
+    private volatile PriceKeyBloomFilter filter;
+    private volatile PriceKeyBloomFilter rebuilding;
+
+    public PriceKeyFilter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${pricing.key-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${pricing.key-filter.headroom:2}") double headroom) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.headroom = headroom;
+        this.rejected = Counter.builder(REJECTED_COUNTER)
+                .description("Lookups of brand and product pairs without prices, answered by the key filter")
+                .register(meterRegistry);
+        Gauge.builder("pricing.key.filter.size", this, keyFilter -> keyFilter.filter.sizeInBytes())
+                .description("Size of the key filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        rebuild();
+    }
+
+    /**
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @return {@code false} if the product has no prices for the brand; {@code true} if it has, or
+     *         rarely, if it has none but collides with pairs that have
+     */
+    public boolean mightHavePrices(long brandId, long productId) {
+        if (filter.mightContain(brandId, productId)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Rebuild the filter from PRICES, sized for the current catalog.
+     */
+    @Scheduled(fixedDelayString = "${pricing.key-filter.rebuild-interval:PT10M}",
+            initialDelayString = "${pricing.key-filter.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        Long keys = jdbcTemplate.queryForObject(COUNT_KEYS, Long.class);
+        long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil((keys == null ? 0 : keys) * headroom));
+        PriceKeyBloomFilter next = PriceKeyBloomFilter.withCapacity(capacity, falsePositiveRate);
+        rebuilding = next;
+        try {
+            jdbcTemplate.query(SELECT_KEYS, resultSet -> {
+                next.add(resultSet.getLong(1), resultSet.getLong(2));
+            });
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("Built price key filter of {} pairs in {} KB ({} ms)", keys, next.sizeInBytes() / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        PriceKeyBloomFilter next = rebuilding;
+        for (PriceKey key : event.keys()) {
+            filter.add(key.brandId(), key.productId());
+            if (next != null) {
+                next.add(key.brandId(), key.productId());
+            }
+        }
+    }
+}
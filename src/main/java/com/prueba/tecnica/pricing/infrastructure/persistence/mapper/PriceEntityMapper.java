@@ -0,0 +1,25 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.mapper;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.infrastructure.persistence.entity.PriceEntity;
+
+/**
+ * Maps persistence entities to the domain model.
+ */
+public final class PriceEntityMapper {
+
+    private PriceEntityMapper() {
+    }
+
+    public static Price toDomain(PriceEntity entity) {
+        return Price.of(
+                entity.getBrandId(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getPriceList(),
+                entity.getProductId(),
+                entity.getPriority(),
+                entity.getPrice(),
+                entity.getCurrency());
+    }
+}
@@ -0,0 +1,331 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+
+/**
+ * Resolved price timelines held in direct memory, outside the Java heap, one column per field.
+ * <ul>
+ *   <li>The directory holds one row per (brand, product), sorted by brand and product, with the
+ *       index of its first segment; its segments run up to the first segment of the next row.</li>
+ *   <li>Segment columns hold the start and end of each segment, in epoch microseconds, and the
+ *       fields of the price winning it: start and end dates, price list, price in minor units,
+ *       priority and the index of its currency.</li>
+ * </ul>
+ * A lookup binary searches the directory, then the segment starts of the product, and only builds
+ * a {@link Price} for the segment found. The heap holds the column buffers, which are a few objects
+ * whatever the catalog size, and the currency codes. The direct memory is released when the store
+ * is garbage collected, so it counts against {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * A store is immutable once built and safe for any number of reading threads. A column is limited
+ * to 2 GB, about 268 million segments.
+ */
+public final class OffHeapPriceStore {
+
+    private static final ByteOrder BYTE_ORDER = ByteOrder.nativeOrder();
+
+    private final LongColumn brandIds;
+    private final LongColumn productIds;
+    private final IntColumn firstSegments;
+    private final LongColumn segmentStarts;
+    private final LongColumn segmentEnds;
+    private final LongColumn startDates;
+    private final LongColumn endDates;
+    private final LongColumn priceLists;
+    private final LongColumn prices;
+    private final IntColumn priorities;
+    private final IntColumn currencyIndexes;
+    private final String[] currencies;
+
+    private OffHeapPriceStore(Builder builder) {
+        this.brandIds = builder.brandIds.trimmed();
+        this.productIds = builder.productIds.trimmed();
+        builder.firstSegments.append(builder.segmentStarts.size);
+        this.firstSegments = builder.firstSegments.trimmed();
+        this.segmentStarts = builder.segmentStarts.trimmed();
+        this.segmentEnds = builder.segmentEnds.trimmed();
+        this.startDates = builder.startDates.trimmed();
+        this.endDates = builder.endDates.trimmed();
+        this.priceLists = builder.priceLists.trimmed();
+        this.prices = builder.prices.trimmed();
+        this.priorities = builder.priorities.trimmed();
+        this.currencyIndexes = builder.currencyIndexes.trimmed();
+        this.currencies = builder.currencies.toArray(String[]::new);
+    }
+
+    /**
+     * @param expectedSegments the number of segments to allocate the columns for; they grow past it
+     * @return an empty builder
+     */
+    public static Builder builder(long expectedSegments) {
+        return new Builder(expectedSegments);
+    }
+
+    /**
+     * Find the segment of a product covering the given instant.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param instant the date to check price applicability, in epoch microseconds
+     * @return the covering segment, if any price of the product applies at the instant
+     */
+    public Optional<PriceSegment> segmentAt(long brandId, long productId, long instant) {
+        int product = findProduct(brandId, productId);
+        if (product < 0) {
+            return Optional.empty();
+        }
+        int low = firstSegments.get(product);
+        int high = firstSegments.get(product + 1) - 1;
+        int first = low;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStarts.get(mid) > instant) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (high < first || segmentEnds.get(high) <= instant) {
+            return Optional.empty();
+        }
+        return Optional.of(segment(high, brandId, productId));
+    }
+
+    /**
+     * @return the number of (brand, product) pairs with prices
+     */
+    public int products() {
+        return brandIds.size;
+    }
+
+    /**
+     * @return the number of segments
+     */
+    public int segments() {
+        return segmentStarts.size;
+    }
+
+    /**
+     * @return the direct memory held by the columns, in bytes
+     */
+    public long sizeInBytes() {
+        return brandIds.bytes() + productIds.bytes() + firstSegments.bytes() + segmentStarts.bytes()
+                + segmentEnds.bytes() + startDates.bytes() + endDates.bytes() + priceLists.bytes()
+                + prices.bytes() + priorities.bytes() + currencyIndexes.bytes();
+    }
+
+    private int findProduct(long brandId, long productId) {
+        int low = 0;
+        int high = brandIds.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Long.compare(brandIds.get(mid), brandId);
+            if (comparison == 0) {
+                comparison = Long.compare(productIds.get(mid), productId);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private PriceSegment segment(int index, long brandId, long productId) {
+        Price price = new Price(brandId, startDates.get(index), endDates.get(index), priceLists.get(index),
+                productId, priorities.get(index), prices.get(index), currencies[currencyIndexes.get(index)]);
+        return new PriceSegment(segmentStarts.get(index), segmentEnds.get(index), price);
+    }
+
+    /**
+     * Appends the timelines of a catalog in (brand, product) order. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final LongColumn brandIds;
+        private final LongColumn productIds;
+        private final IntColumn firstSegments;
+        private final LongColumn segmentStarts;
+        private final LongColumn segmentEnds;
+        private final LongColumn startDates;
+        private final LongColumn endDates;
+        private final LongColumn priceLists;
+        private final LongColumn prices;
+        private final IntColumn priorities;
+        private final IntColumn currencyIndexes;
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Integer> currencyIndex = new HashMap<>();
+        private boolean built;
+
+        private Builder(long expectedSegments) {
+            int segments = (int) Math.min(Math.max(expectedSegments, 16), Integer.MAX_VALUE / Long.BYTES);
+            int products = Math.max(segments / 4, 16);
+            this.brandIds = new LongColumn(products);
+            this.productIds = new LongColumn(products);
+            this.firstSegments = new IntColumn(products + 1);
+            this.segmentStarts = new LongColumn(segments);
+            this.segmentEnds = new LongColumn(segments);
+            this.startDates = new LongColumn(segments);
+            this.endDates = new LongColumn(segments);
+            this.priceLists = new LongColumn(segments);
+            this.prices = new LongColumn(segments);
+            this.priorities = new IntColumn(segments);
+            this.currencyIndexes = new IntColumn(segments);
+        }
+
+        /**
+         * Append the timeline of a product. Products must be added in ascending brand and product order.
+         *
+         * @param brandId the brand identifier
+         * @param productId the product identifier
+         * @param timeline the resolved timeline of the product; an empty one is skipped
+         * @return this builder
+         * @throws IllegalArgumentException if the product does not sort after the previous one
+         */
+        public Builder add(long brandId, long productId, PriceTimeline timeline) {
+            if (built) {
+                throw new IllegalStateException("Store already built");
+            }
+            if (timeline.isEmpty()) {
+                return this;
+            }
+            int last = brandIds.size - 1;
+            if (last >= 0 && (brandIds.get(last) > brandId
+                    || brandIds.get(last) == brandId && productIds.get(last) >= productId)) {
+                throw new IllegalArgumentException("Product " + brandId + "/" + productId + " added out of order");
+            }
+            brandIds.append(brandId);
+            productIds.append(productId);
+            firstSegments.append(segmentStarts.size);
+            for (PriceSegment segment : timeline.segments()) {
+                Price price = segment.price();
+                segmentStarts.append(segment.start());
+                segmentEnds.append(segment.end());
+                startDates.append(price.getStartDate());
+                endDates.append(price.getEndDate());
+                priceLists.append(price.getPriceList());
+                prices.append(price.getPrice());
+                priorities.append(price.getPriority());
+                currencyIndexes.append(currencyIndex.computeIfAbsent(price.getCurrency(), currency -> {
+                    currencies.add(currency);
+                    return currencies.size() - 1;
+                }));
+            }
+            return this;
+        }
+
+        /**
+         * @return the store, with its columns copied to their exact size
+         */
+        public OffHeapPriceStore build() {
+            if (built) {
+                throw new IllegalStateException("Store already built");
+            }
+            built = true;
+            return new OffHeapPriceStore(this);
+        }
+    }
+
+    /**
+     * A direct buffer of longs, grown by copy while building.
+     */
+    private static final class LongColumn {
+
+        private ByteBuffer buffer;
+        private int size;
+
+        LongColumn(int capacity) {
+            this.buffer = allocate(capacity, Long.BYTES);
+        }
+
+        long get(int index) {
+            return buffer.getLong(index * Long.BYTES);
+        }
+
+        void append(long value) {
+            if (size == buffer.capacity() / Long.BYTES) {
+                buffer = grow(buffer, size, Long.BYTES);
+            }
+            buffer.putLong(size++ * Long.BYTES, value);
+        }
+
+        LongColumn trimmed() {
+            buffer = copy(buffer, size, Long.BYTES);
+            return this;
+        }
+
+        long bytes() {
+            return buffer.capacity();
+        }
+    }
+
+    /**
+     * A direct buffer of ints, grown by copy while building.
+     */
+    private static final class IntColumn {
+
+        private ByteBuffer buffer;
+        private int size;
+
+        IntColumn(int capacity) {
+            this.buffer = allocate(capacity, Integer.BYTES);
+        }
+
+        int get(int index) {
+            return buffer.getInt(index * Integer.BYTES);
+        }
+
+        void append(int value) {
+            if (size == buffer.capacity() / Integer.BYTES) {
+                buffer = grow(buffer, size, Integer.BYTES);
+            }
+            buffer.putInt(size++ * Integer.BYTES, value);
+        }
+
+        IntColumn trimmed() {
+            buffer = copy(buffer, size, Integer.BYTES);
+            return this;
+        }
+
+        long bytes() {
+            return buffer.capacity();
+        }
+    }
+
+    private static ByteBuffer allocate(int capacity, int width) {
+        if (capacity > Integer.MAX_VALUE / width) {
+            throw new IllegalStateException("Off-heap price column limited to " + Integer.MAX_VALUE / width + " values");
+        }
+        return ByteBuffer.allocateDirect(capacity * width).order(BYTE_ORDER);
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int size, int width) {
+        long capacity = Math.min((long) size + (size >> 1) + 16, Integer.MAX_VALUE / width);
+        if (capacity <= size) {
+            throw new IllegalStateException("Off-heap price column limited to " + Integer.MAX_VALUE / width + " values");
+        }
+        return copy(buffer, (int) capacity, size, width);
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer, int size, int width) {
+        return buffer.capacity() == size * width ? buffer : copy(buffer, size, size, width);
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer, int capacity, int size, int width) {
+        ByteBuffer copy = allocate(capacity, width);
+        copy.put(0, buffer, 0, size * width);
+        return copy;
+    }
+}
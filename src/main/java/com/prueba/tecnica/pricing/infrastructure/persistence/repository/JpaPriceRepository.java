@@ -1,9 +1,9 @@
 package com.prueba.tecnica.pricing.infrastructure.persistence.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,7 +17,6 @@ import com.prueba.tecnica.pricing.infrastructure.persistence.entity.PriceEntity;
 @Repository
 public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
 
-@Cacheable("prices")
 @Query(value = """
     SELECT p.* FROM PRICES p 
     WHERE p.brand_id = :brandId 
@@ -32,4 +31,31 @@ Optional<PriceEntity> findBestApplicablePrice(
     @Param("productId") Long productId,
     @Param("applicationDate") LocalDateTime applicationDate
 );
+
+/**
+ * Every price of a product, used to resolve its whole timeline.
+ */
+@Query(value = """
+    SELECT p.* FROM PRICES p 
+    WHERE p.brand_id = :brandId 
+      AND p.product_id = :productId
+    """, nativeQuery = true)
+List<PriceEntity> findProductPrices(
+    @Param("brandId") Long brandId,
+    @Param("productId") Long productId
+);
+
+/**
+ * Every price of the given products, used to resolve several timelines in one round-trip.
+ * The arrays are zipped into (brand, product) keys, the i-th brand going with the i-th product,
+ * and joined to PRICES so that each key is an index lookup instead of a scan of the whole brand.
+ */
+@Query(value = """
+    SELECT p.* FROM UNNEST(CAST(:brandIds AS BIGINT ARRAY), CAST(:productIds AS BIGINT ARRAY)) k(brand_id, product_id)
+    JOIN PRICES p ON p.brand_id = k.brand_id AND p.product_id = k.product_id
+    """, nativeQuery = true)
+List<PriceEntity> findProductsPrices(
+    @Param("brandIds") Long[] brandIds,
+    @Param("productIds") Long[] productIds
+);
 }
@@ -0,0 +1,249 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.segment;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.event.PricesChangedEvent;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the PRICE_SEGMENTS table in sync with PRICES.
+ * Each product's prices are resolved into a {@link PriceTimeline} and its segments replace the
+ * previous ones in a single transaction, so readers see either the old or the new segments.
+ * Products are recomputed in chunks on the {@code priceSegmentPool}, whose size is
+ * {@code pricing.segments.parallelism}.
+ * <p>
+ * The whole table is rebuilt at startup, dropping segments of products no longer in PRICES.
+ * The products of a {@link PricesChangedEvent} are queued and recomputed in the background, so
+ * writers do not wait for the segments; queued changes are merged and applied one rebuild at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.repository.type", havingValue = "segments")
+@DependsOnDatabaseInitialization
+@Slf4j
+public class PriceSegmentMaterializer implements InitializingBean {
+
+    /**
+     * Products loaded and rewritten per transaction.
+     */
+    static final int PRODUCTS_PER_CHUNK = 200;
+
+    private static final String SELECT_KEYS = "SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES";
+
+    private static final String DELETE_SEGMENTS = "DELETE FROM PRICE_SEGMENTS WHERE BRAND_ID = ? AND PRODUCT_ID = ?";
+
+    private static final String DELETE_ORPHAN_SEGMENTS = """
+            DELETE FROM PRICE_SEGMENTS s
+            WHERE NOT EXISTS (SELECT 1 FROM PRICES p WHERE p.BRAND_ID = s.BRAND_ID AND p.PRODUCT_ID = s.PRODUCT_ID)
+            """;
+
+    private static final String INSERT_SEGMENT = """
+            INSERT INTO PRICE_SEGMENTS (BRAND_ID, PRODUCT_ID, SEGMENT_START, SEGMENT_END,
+                START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JpaPriceRepository jpaPriceRepository;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final ForkJoinPool priceSegmentPool;
+
+    /**
+     * Serializes rebuilds, so that two overlapping recomputes of a product cannot commit out of order.
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Object pendingLock = new Object();
+    private Set<PriceKey> pending = new HashSet<>();
+    private boolean draining;
+
+    public PriceSegmentMaterializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            JpaPriceRepository jpaPriceRepository, DatabaseConcurrencyLimiter databaseConcurrencyLimiter,
+            @Qualifier("priceSegmentPool") ForkJoinPool priceSegmentPool) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.databaseConcurrencyLimiter = databaseConcurrencyLimiter;
+        this.priceSegmentPool = priceSegmentPool;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long start = System.nanoTime();
+        int products = rebuildAll();
+        log.info("Materialized price segments of {} products in {} ms",
+                products, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Queue the changed products for a background rebuild.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        synchronized (pendingLock) {
+            pending.addAll(event.keys());
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        priceSegmentPool.execute(this::drainPending);
+    }
+
+    /**
+     * @return true when no queued change is waiting or being applied
+     */
+    public boolean isIdle() {
+        synchronized (pendingLock) {
+            return !draining && pending.isEmpty();
+        }
+    }
+
+    /**
+     * Recompute the segments of every product in PRICES and drop the segments of products without prices.
+     *
+     * @return the number of products recomputed
+     */
+    public int rebuildAll() {
+        lockRebuild();
+        try {
+            List<PriceKey> keys = jdbcTemplate.query(SELECT_KEYS,
+                    (resultSet, rowNum) -> new PriceKey(resultSet.getLong(1), resultSet.getLong(2)));
+            rebuild(keys);
+            int orphans = databaseConcurrencyLimiter.call(() -> jdbcTemplate.update(DELETE_ORPHAN_SEGMENTS));
+            if (orphans > 0) {
+                log.info("Dropped {} segments of products without prices", orphans);
+            }
+            return keys.size();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Recompute the segments of the given products. Products without prices lose their segments.
+     *
+     * @param keys the brands and products to recompute
+     */
+    public void rebuild(Collection<PriceKey> keys) {
+        List<PriceKey> distinct = List.copyOf(Set.copyOf(keys));
+        List<ForkJoinTask<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += PRODUCTS_PER_CHUNK) {
+            List<PriceKey> chunk = distinct.subList(from, Math.min(from + PRODUCTS_PER_CHUNK, distinct.size()));
+            chunks.add(ForkJoinTask.adapt(() -> rebuildChunk(chunk)));
+        }
+
+        lockRebuild();
+        try {
+            // Joining inside the pool lets a waiting worker run queued chunks instead of blocking
+            priceSegmentPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Take the rebuild lock; a pool worker waiting for it lets the pool start a spare worker, so the
+     * chunks of the rebuild holding the lock can still run.
+     */
+    private void lockRebuild() {
+        try {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() {
+                    rebuildLock.lock();
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return rebuildLock.tryLock();
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the price segment rebuild lock", e);
+        }
+    }
+
+    private void drainPending() {
+        while (true) {
+            Set<PriceKey> keys;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                keys = pending;
+                pending = new HashSet<>();
+            }
+            try {
+                rebuild(keys);
+            } catch (RuntimeException e) {
+                log.error("Failed to recompute the price segments of {} products; they are rebuilt on the next change or restart",
+                        keys.size(), e);
+            }
+        }
+    }
+
+    private void rebuildChunk(List<PriceKey> keys) {
+        databaseConcurrencyLimiter.call(() -> transactionTemplate.execute(status -> {
+            Long[] brandIds = keys.stream().map(PriceKey::brandId).toArray(Long[]::new);
+            Long[] productIds = keys.stream().map(PriceKey::productId).toArray(Long[]::new);
+            Map<PriceKey, List<Price>> pricesByKey = jpaPriceRepository.findProductsPrices(brandIds, productIds).stream()
+                    .map(PriceEntityMapper::toDomain)
+                    .collect(Collectors.groupingBy(price -> new PriceKey(price.getBrandId(), price.getProductId())));
+
+            List<PriceSegment> segments = new ArrayList<>();
+            for (PriceKey key : keys) {
+                segments.addAll(PriceTimeline.of(pricesByKey.getOrDefault(key, List.of())).segments());
+            }
+
+            jdbcTemplate.batchUpdate(DELETE_SEGMENTS, keys, keys.size(), (statement, key) -> {
+                statement.setLong(1, key.brandId());
+                statement.setLong(2, key.productId());
+            });
+            return jdbcTemplate.batchUpdate(INSERT_SEGMENT, segments, Math.max(1, segments.size()), (statement, segment) -> {
+                Price price = segment.price();
+                statement.setLong(1, price.getBrandId());
+                statement.setLong(2, price.getProductId());
+                statement.setTimestamp(3, Timestamp.valueOf(PriceUnits.toLocalDateTime(segment.start())));
+                statement.setTimestamp(4, Timestamp.valueOf(PriceUnits.toLocalDateTime(segment.end())));
+                statement.setTimestamp(5, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getStartDate())));
+                statement.setTimestamp(6, Timestamp.valueOf(PriceUnits.toLocalDateTime(price.getEndDate())));
+                statement.setLong(7, price.getPriceList());
+                statement.setInt(8, price.getPriority());
+                statement.setBigDecimal(9, PriceUnits.toAmount(price.getPrice()));
+                statement.setString(10, price.getCurrency());
+            });
+        }));
+    }
+}
@@ -0,0 +1,143 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+
+/**
+ * Read-only view of a price snapshot file mapped into memory.
+ * Opening validates the header and the checksum; lookups then binary search the fixed-width records
+ * in place, reading only the pages they touch, so the file never has to be copied onto the heap.
+ * Reads use absolute positions only and are safe from any number of threads.
+ * A single mapping is limited to 2 GB, about 29 million segments.
+ */
+public final class PriceSnapshot {
+
+    private final ByteBuffer records;
+    private final int size;
+    private final Map<Integer, String> currencies = new ConcurrentHashMap<>();
+
+    private PriceSnapshot(ByteBuffer records, int size) {
+        this.records = records;
+        this.size = size;
+    }
+
+    /**
+     * Map and validate a snapshot file.
+     *
+     * @param file the snapshot to open
+     * @return the mapped snapshot
+     * @throws IOException if the file cannot be read, is not a snapshot of this version, or is corrupt
+     */
+    public static PriceSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < PriceSnapshotFormat.HEADER_SIZE) {
+                throw new IOException("Price snapshot " + file + " is truncated");
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Price snapshot " + file + " is larger than 2 GB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            mapped.order(PriceSnapshotFormat.BYTE_ORDER);
+            if (mapped.getInt(0) != PriceSnapshotFormat.MAGIC) {
+                throw new IOException(file + " is not a price snapshot");
+            }
+            int version = mapped.getInt(PriceSnapshotFormat.HEADER_VERSION);
+            if (version != PriceSnapshotFormat.VERSION
+                    || mapped.getInt(PriceSnapshotFormat.HEADER_RECORD_SIZE) != PriceSnapshotFormat.RECORD_SIZE) {
+                throw new IOException("Price snapshot " + file + " has version " + version
+                        + ", expected " + PriceSnapshotFormat.VERSION);
+            }
+            long count = mapped.getLong(PriceSnapshotFormat.HEADER_RECORD_COUNT);
+            if (count < 0 || PriceSnapshotFormat.HEADER_SIZE + count * PriceSnapshotFormat.RECORD_SIZE != length) {
+                throw new IOException("Price snapshot " + file + " is truncated");
+            }
+
+            ByteBuffer records = mapped.slice(PriceSnapshotFormat.HEADER_SIZE, (int) (length - PriceSnapshotFormat.HEADER_SIZE))
+                    .order(PriceSnapshotFormat.BYTE_ORDER);
+            CRC32C checksum = new CRC32C();
+            checksum.update(records.duplicate());
+            if (checksum.getValue() != mapped.getLong(PriceSnapshotFormat.HEADER_CHECKSUM)) {
+                throw new IOException("Price snapshot " + file + " fails its checksum");
+            }
+            return new PriceSnapshot(records, (int) count);
+        }
+    }
+
+    /**
+     * Find the segment of a product covering the given instant.
+     *
+     * @param brandId the brand identifier
+     * @param productId the product identifier
+     * @param instant the date to check price applicability, in epoch microseconds
+     * @return the covering segment, if any price of the product applies at the instant
+     */
+    public Optional<PriceSegment> segmentAt(long brandId, long productId, long instant) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, brandId, productId, instant) > 0) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (high < 0) {
+            return Optional.empty();
+        }
+        int offset = high * PriceSnapshotFormat.RECORD_SIZE;
+        if (records.getLong(offset + PriceSnapshotFormat.BRAND_ID) != brandId
+                || records.getLong(offset + PriceSnapshotFormat.PRODUCT_ID) != productId
+                || records.getLong(offset + PriceSnapshotFormat.SEGMENT_END) <= instant) {
+            return Optional.empty();
+        }
+        return Optional.of(segment(offset));
+    }
+
+    /**
+     * @return the number of segments in the snapshot
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compare the key of a record with the given key.
+     */
+    private int compare(int index, long brandId, long productId, long instant) {
+        int offset = index * PriceSnapshotFormat.RECORD_SIZE;
+        int byBrand = Long.compare(records.getLong(offset + PriceSnapshotFormat.BRAND_ID), brandId);
+        if (byBrand != 0) {
+            return byBrand;
+        }
+        int byProduct = Long.compare(records.getLong(offset + PriceSnapshotFormat.PRODUCT_ID), productId);
+        return byProduct != 0 ? byProduct : Long.compare(records.getLong(offset + PriceSnapshotFormat.SEGMENT_START), instant);
+    }
+
+    private PriceSegment segment(int offset) {
+        Price price = new Price(
+                records.getLong(offset + PriceSnapshotFormat.BRAND_ID),
+                records.getLong(offset + PriceSnapshotFormat.START_DATE),
+                records.getLong(offset + PriceSnapshotFormat.END_DATE),
+                records.getLong(offset + PriceSnapshotFormat.PRICE_LIST),
+                records.getLong(offset + PriceSnapshotFormat.PRODUCT_ID),
+                records.getInt(offset + PriceSnapshotFormat.PRIORITY),
+                records.getLong(offset + PriceSnapshotFormat.PRICE),
+                currencies.computeIfAbsent(records.getInt(offset + PriceSnapshotFormat.CURRENCY),
+                        PriceSnapshotFormat::decodeCurrency));
+        return new PriceSegment(records.getLong(offset + PriceSnapshotFormat.SEGMENT_START),
+                records.getLong(offset + PriceSnapshotFormat.SEGMENT_END), price);
+    }
+}
@@ -0,0 +1,31 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes a price snapshot at startup when {@code pricing.snapshot.export} is set:
+ * {@code java -jar pricing.jar --pricing.snapshot.export=prices.snap}.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.snapshot.export")
+@RequiredArgsConstructor
+public class PriceSnapshotExportRunner implements ApplicationRunner {
+
+    private final PriceSnapshotExporter priceSnapshotExporter;
+
+    @Value("${pricing.snapshot.export}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        priceSnapshotExporter.export(file);
+    }
+}
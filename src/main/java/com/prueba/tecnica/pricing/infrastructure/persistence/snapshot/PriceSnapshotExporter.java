@@ -0,0 +1,102 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Component;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a {@link PriceSnapshot} of the current PRICES table.
+ * The table is read once, by brand and product, through a forward-only cursor; each product is
+ * resolved into a {@link PriceTimeline} as soon as its last row is read and its segments are appended,
+ * so only one product's prices are held in memory at a time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceSnapshotExporter {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_PRICES = """
+            SELECT BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR
+            FROM PRICES
+            ORDER BY BRAND_ID, PRODUCT_ID
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
+    /**
+     * Write the snapshot, replacing the file only once it is complete.
+     *
+     * @param file the snapshot to write
+     * @return the number of segments written
+     */
+    public long export(Path file) throws IOException {
+        long start = System.nanoTime();
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(file)) {
+            List<Price> product = new ArrayList<>();
+            PreparedStatementCreator cursor = connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_PRICES,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            };
+            try {
+                databaseConcurrencyLimiter.call(() -> {
+                    jdbcTemplate.query(cursor, resultSet -> {
+                        Price price = Price.of(
+                                resultSet.getLong("BRAND_ID"),
+                                resultSet.getTimestamp("START_DATE").toLocalDateTime(),
+                                resultSet.getTimestamp("END_DATE").toLocalDateTime(),
+                                resultSet.getLong("PRICE_LIST"),
+                                resultSet.getLong("PRODUCT_ID"),
+                                resultSet.getInt("PRIORITY"),
+                                resultSet.getBigDecimal("PRICE"),
+                                resultSet.getString("CURR"));
+                        if (!product.isEmpty() && (product.get(0).getBrandId() != price.getBrandId()
+                                || product.get(0).getProductId() != price.getProductId())) {
+                            append(writer, product);
+                        }
+                        product.add(price);
+                    });
+                    return null;
+                });
+                append(writer, product);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            long segments = writer.commit();
+            log.info("Wrote price snapshot {} with {} segments in {} ms",
+                    file, segments, (System.nanoTime() - start) / 1_000_000);
+            return segments;
+        }
+    }
+
+    private static void append(PriceSnapshotWriter writer, List<Price> product) {
+        try {
+            for (PriceSegment segment : PriceTimeline.of(product).segments()) {
+                writer.append(segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        product.clear();
+    }
+}
@@ -0,0 +1,83 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of a price snapshot file, little-endian throughout.
+ * <pre>
+ * header (32 bytes)
+ *   0  int   magic "PSNP"
+ *   4  int   format version
+ *   8  int   record size
+ *   12 int   reserved, zero
+ *   16 long  record count
+ *   24 long  CRC32C of the record area
+ * records (72 bytes each), sorted by brand, product and segment start
+ *   0  long  brand id
+ *   8  long  product id
+ *   16 long  segment start, epoch microseconds, inclusive
+ *   24 long  segment end, epoch microseconds, exclusive
+ *   32 long  price start date, epoch microseconds
+ *   40 long  price end date, epoch microseconds
+ *   48 long  price list
+ *   56 long  price, minor units
+ *   64 int   priority
+ *   68 byte[4] currency, ASCII, zero-padded
+ * </pre>
+ */
+final class PriceSnapshotFormat {
+
+    static final int MAGIC = 0x504E5350;
+    static final int VERSION = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int HEADER_SIZE = 32;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_RECORD_SIZE = 8;
+    static final int HEADER_RECORD_COUNT = 16;
+    static final int HEADER_CHECKSUM = 24;
+
+    static final int RECORD_SIZE = 72;
+    static final int BRAND_ID = 0;
+    static final int PRODUCT_ID = 8;
+    static final int SEGMENT_START = 16;
+    static final int SEGMENT_END = 24;
+    static final int START_DATE = 32;
+    static final int END_DATE = 40;
+    static final int PRICE_LIST = 48;
+    static final int PRICE = 56;
+    static final int PRIORITY = 64;
+    static final int CURRENCY = 68;
+    static final int CURRENCY_SIZE = 4;
+
+    private PriceSnapshotFormat() {
+    }
+
+    /**
+     * @param currency the currency code, at most {@value #CURRENCY_SIZE} ASCII characters
+     * @return the code packed in an int, first character in the lowest byte
+     */
+    static int encodeCurrency(String currency) {
+        if (currency.length() > CURRENCY_SIZE || !StandardCharsets.US_ASCII.newEncoder().canEncode(currency)) {
+            throw new IllegalArgumentException("Currency " + currency + " does not fit the snapshot format");
+        }
+        int code = 0;
+        for (int i = 0; i < currency.length(); i++) {
+            code |= (currency.charAt(i) & 0xFF) << (i * Byte.SIZE);
+        }
+        return code;
+    }
+
+    /**
+     * @param code the packed currency code
+     * @return the currency code, without the zero padding
+     */
+    static String decodeCurrency(int code) {
+        StringBuilder currency = new StringBuilder(CURRENCY_SIZE);
+        for (int remaining = code; remaining != 0; remaining >>>= Byte.SIZE) {
+            currency.append((char) (remaining & 0xFF));
+        }
+        return currency.toString();
+    }
+}
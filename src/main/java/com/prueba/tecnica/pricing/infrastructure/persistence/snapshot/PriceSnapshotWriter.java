@@ -0,0 +1,130 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+
+/**
+ * Writes a price snapshot file, one resolved segment at a time.
+ * Records go to a temporary file next to the target, and the header with the record count and
+ * checksum is written last; {@link #commit()} then syncs the file and moves it over the target, so a
+ * reader never maps a partial snapshot. Closing without committing deletes the temporary file.
+ */
+public final class PriceSnapshotWriter implements Closeable {
+
+    private static final int RECORDS_PER_WRITE = 1024;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer =
+            ByteBuffer.allocateDirect(PriceSnapshotFormat.RECORD_SIZE * RECORDS_PER_WRITE).order(PriceSnapshotFormat.BYTE_ORDER);
+    private final CRC32C checksum = new CRC32C();
+
+    private long records;
+    private long lastBrandId;
+    private long lastProductId;
+    private long lastStart;
+    private boolean committed;
+
+    public PriceSnapshotWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.temporary = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.channel.position(PriceSnapshotFormat.HEADER_SIZE);
+    }
+
+    /**
+     * Append a segment; segments must come by brand, product and start, as a {@code PriceTimeline} returns them.
+     *
+     * @param segment the segment to append
+     * @throws IllegalArgumentException if the segment is out of order or its currency does not fit the format
+     */
+    public void append(PriceSegment segment) throws IOException {
+        Price price = segment.price();
+        if (records > 0 && compare(price.getBrandId(), price.getProductId(), segment.start()) <= 0) {
+            throw new IllegalArgumentException("Segments must be appended by brand, product and start");
+        }
+        if (buffer.remaining() < PriceSnapshotFormat.RECORD_SIZE) {
+            flush();
+        }
+        int offset = buffer.position();
+        buffer.putLong(offset + PriceSnapshotFormat.BRAND_ID, price.getBrandId())
+                .putLong(offset + PriceSnapshotFormat.PRODUCT_ID, price.getProductId())
+                .putLong(offset + PriceSnapshotFormat.SEGMENT_START, segment.start())
+                .putLong(offset + PriceSnapshotFormat.SEGMENT_END, segment.end())
+                .putLong(offset + PriceSnapshotFormat.START_DATE, price.getStartDate())
+                .putLong(offset + PriceSnapshotFormat.END_DATE, price.getEndDate())
+                .putLong(offset + PriceSnapshotFormat.PRICE_LIST, price.getPriceList())
+                .putLong(offset + PriceSnapshotFormat.PRICE, price.getPrice())
+                .putInt(offset + PriceSnapshotFormat.PRIORITY, price.getPriority())
+                .putInt(offset + PriceSnapshotFormat.CURRENCY, PriceSnapshotFormat.encodeCurrency(price.getCurrency()));
+        buffer.position(offset + PriceSnapshotFormat.RECORD_SIZE);
+
+        records++;
+        lastBrandId = price.getBrandId();
+        lastProductId = price.getProductId();
+        lastStart = segment.start();
+    }
+
+    /**
+     * Write the header and replace the target with the completed snapshot.
+     *
+     * @return the number of records written
+     */
+    public long commit() throws IOException {
+        flush();
+        ByteBuffer header = ByteBuffer.allocate(PriceSnapshotFormat.HEADER_SIZE).order(PriceSnapshotFormat.BYTE_ORDER)
+                .putInt(PriceSnapshotFormat.MAGIC)
+                .putInt(PriceSnapshotFormat.VERSION)
+                .putInt(PriceSnapshotFormat.RECORD_SIZE)
+                .putInt(0)
+                .putLong(records)
+                .putLong(checksum.getValue())
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private int compare(long brandId, long productId, long start) {
+        int byBrand = Long.compare(brandId, lastBrandId);
+        if (byBrand != 0) {
+            return byBrand;
+        }
+        int byProduct = Long.compare(productId, lastProductId);
+        return byProduct != 0 ? byProduct : Long.compare(start, lastStart);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -11,4 +11,43 @@ CREATE TABLE PRICES (
 );
 
 CREATE INDEX idx_prices_today
-  ON prices (brand_id, product_id, priority DESC, price DESC);
\ No newline at end of file
+  ON prices (brand_id, product_id, priority DESC, price DESC);
+
+-- Date range variant: the equality prefix narrows to one product and START_DATE bounds the range scan,
+-- with END_DATE in the index so the remaining predicate is checked without reading the row.
+CREATE INDEX idx_prices_start_range
+  ON prices (brand_id, product_id, start_date, end_date);
+
+-- Resolved, non-overlapping price segments per brand and product, derived from PRICES.
+-- Each row holds the price that wins in [SEGMENT_START, SEGMENT_END); START_DATE/END_DATE are the
+-- original range of that price. The exclusive end is END_DATE + 1 microsecond, the precision of the TIMESTAMP columns.
+CREATE TABLE PRICE_SEGMENTS (
+    BRAND_ID BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    SEGMENT_START TIMESTAMP NOT NULL,
+    SEGMENT_END TIMESTAMP NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE_LIST BIGINT NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    PRICE DECIMAL(10,2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL,
+    PRIMARY KEY (BRAND_ID, PRODUCT_ID, SEGMENT_START)
+);
+
+-- Log of the brand and product pairs whose prices changed, written by a trigger on PRICES whoever changes
+-- the table, ERP loader included, and read by the change poller to refresh only those pairs.
+-- CHANGED_AT is the start of the writing transaction; rows are purged once older than the retention.
+CREATE TABLE PRICE_CHANGES (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    CHANGED_AT TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_price_changes_changed_at
+  ON price_changes (changed_at);
+
+CREATE TRIGGER trg_prices_changes
+  AFTER INSERT, UPDATE, DELETE ON PRICES
+  FOR EACH ROW CALL 'com.prueba.tecnica.pricing.infrastructure.persistence.changelog.PriceChangeTrigger';
@@ -0,0 +1,151 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.application.dto.ApiErrorResponse;
+import com.prueba.tecnica.pricing.application.dto.BatchPriceItemDto;
+import com.prueba.tecnica.pricing.application.dto.BatchPriceResponseDto;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+
+/**
+ * Integration tests for the batch price lookup endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Price Controller - Batch Lookup")
+class PriceControllerBatchTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should resolve the required test cases in one batch keeping request order")
+    void shouldResolveRequiredCasesInOneBatch() {
+        // Given
+        List<Map<String, Object>> queries = List.of(
+                query(1L, 35455L, "2020-06-14T10:00:00"),
+                query(1L, 35455L, "2020-06-14T16:00:00"),
+                query(1L, 35455L, "2020-06-14T21:00:00"),
+                query(1L, 35455L, "2020-06-15T10:00:00"),
+                query(1L, 35455L, "2020-06-16T21:00:00"));
+
+        // When
+        ResponseEntity<BatchPriceResponseDto> response = post(queries, BatchPriceResponseDto.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getResults())
+                .extracting(item -> item.getPrice().getPriceList())
+                .containsExactly(1L, 2L, 1L, 3L, 4L);
+        assertThat(response.getBody().getResults())
+                .extracting(item -> item.getPrice().getPrice())
+                .containsExactly(new BigDecimal("35.50"), new BigDecimal("25.45"), new BigDecimal("35.50"),
+                        new BigDecimal("30.50"), new BigDecimal("38.95"));
+    }
+
+    @Test
+    @DisplayName("Should report not found lookups without failing the batch")
+    void shouldReportNotFoundPerItem() {
+        // Given
+        List<Map<String, Object>> queries = List.of(
+                query(1L, 99999L, "2020-06-14T10:00:00"),
+                query(1L, 35455L, "2020-06-14T16:00:00"),
+                query(1L, 35455L, "2020-01-01T10:00:00"));
+
+        // When
+        ResponseEntity<BatchPriceResponseDto> response = post(queries, BatchPriceResponseDto.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<BatchPriceItemDto> results = response.getBody().getResults();
+        assertThat(results).extracting(BatchPriceItemDto::isFound).containsExactly(false, true, false);
+        assertThat(results.get(0).getProductId()).isEqualTo(99999L);
+        assertThat(results.get(0).getPrice()).isNull();
+
+        PriceResponseDto found = results.get(1).getPrice();
+        assertThat(found.getPriceList()).isEqualTo(2L);
+        assertThat(found.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(results.get(2).getApplicationDate()).isEqualTo(LocalDateTime.of(2020, 1, 1, 10, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() {
+        // When
+        ResponseEntity<ApiErrorResponse> response = post(List.of(), ApiErrorResponse.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a batch above the maximum size")
+    void shouldReturn400ForOversizedBatch() {
+        // Given
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            queries.add(query(1L, 35455L, "2020-06-14T10:00:00"));
+        }
+
+        // When
+        ResponseEntity<ApiErrorResponse> response = post(queries, ApiErrorResponse.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a negative brand ID in any lookup")
+    void shouldReturn400ForNegativeBrandId() {
+        // Given
+        List<Map<String, Object>> queries = List.of(
+                query(1L, 35455L, "2020-06-14T10:00:00"),
+                query(-1L, 35455L, "2020-06-14T10:00:00"));
+
+        // When
+        ResponseEntity<ApiErrorResponse> response = post(queries, ApiErrorResponse.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid date format")
+    void shouldReturn400ForInvalidDateFormat() {
+        // When
+        ResponseEntity<ApiErrorResponse> response = post(List.of(query(1L, 35455L, "invalid-date")), ApiErrorResponse.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private <T> ResponseEntity<T> post(List<Map<String, Object>> queries, Class<T> responseType) {
+        String url = String.format("http://localhost:%d/api/v1/prices/batch", port);
+        return restTemplate.postForEntity(url, Map.of("queries", queries), responseType);
+    }
+
+    private static Map<String, Object> query(Long brandId, Long productId, String applicationDate) {
+        return Map.of("brandId", brandId, "productId", productId, "applicationDate", applicationDate);
+    }
+}
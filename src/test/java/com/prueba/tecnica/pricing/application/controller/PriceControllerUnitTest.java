@@ -1,7 +1,10 @@
 package com.prueba.tecnica.pricing.application.controller;
 
 import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.Price;
 import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
 import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,17 +12,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -48,7 +54,7 @@ class PriceControllerUnitTest {
         // Given
         PriceResult mockPriceResult = createMockPriceResult(1L, new BigDecimal("35.50"));
         
-        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID), eq(PRODUCT_ID), any(LocalDateTime.class)))
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
                 .thenReturn(mockPriceResult);
 
         // When & Then
@@ -72,7 +78,7 @@ class PriceControllerUnitTest {
     @DisplayName("Should return 404 when price not found")
     void shouldReturn404WhenPriceNotFound() throws Exception {
         // Given
-        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID), eq(PRODUCT_ID), any(LocalDateTime.class)))
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
                 .thenThrow(new PriceNotFoundException("Price not found"));
 
         // When & Then
@@ -136,17 +142,18 @@ class PriceControllerUnitTest {
     @DisplayName("Should return promotional price for Test 2 scenario")
     void shouldReturnPromotionalPriceForTest2() throws Exception {
         // Given - Test 2: 16:00 on day 14 should return promotional price
-        PriceResult mockPriceResult = new PriceResult(
-                PRODUCT_ID,
+        PriceResult mockPriceResult = PriceResult.from(Price.of(
                 BRAND_ID,
-                2L,
                 LocalDateTime.of(2020, 6, 14, 15, 0, 0),
                 LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2L,
+                PRODUCT_ID,
+                1,
                 new BigDecimal("25.45"),
                 "EUR"
-        );
+        ));
         
-        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID), eq(PRODUCT_ID), any(LocalDateTime.class)))
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
                 .thenReturn(mockPriceResult);
 
         // When & Then
@@ -162,15 +169,107 @@ class PriceControllerUnitTest {
                 .andExpect(jsonPath("$.endDate").value("2020-06-14T18:30:00"));
     }
 
+    @Test
+    @DisplayName("Should send a strong ETag and a freshness bounded by the remaining validity of the price")
+    void shouldSendCachingHeaders() throws Exception {
+        // Given: the price keeps applying for 90 minutes after the application date
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 17, 0, 0);
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
+                .thenReturn(createMockSegmentResult(applicationDate.plusMinutes(90)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", applicationDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{16}\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(header().exists(HttpHeaders.EXPIRES));
+    }
+
+    @Test
+    @DisplayName("Should not let caches store a price whose validity is unknown")
+    void shouldSendZeroMaxAgeWhenValidityUnknown() throws Exception {
+        // Given
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
+                .thenReturn(createMockPriceResult(1L, new BigDecimal("35.50")));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, public"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match holds the ETag")
+    void shouldReturn304WhenETagMatches() throws Exception {
+        // Given
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 17, 0, 0);
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
+                .thenReturn(createMockSegmentResult(applicationDate.plusMinutes(10)));
+        String eTag = mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", applicationDate.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", applicationDate.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when the price changes")
+    void shouldChangeETagWithPrice() throws Exception {
+        // Given
+        when(priceQueryUseCase.getApplicablePrice(eq(BRAND_ID.longValue()), eq(PRODUCT_ID.longValue()), anyLong()))
+                .thenReturn(createMockPriceResult(1L, new BigDecimal("35.50")))
+                .thenReturn(createMockPriceResult(1L, new BigDecimal("35.51")));
+
+        // When
+        String first = mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", "2020-06-14T10:00:00"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        mockMvc.perform(get("/api/v1/prices")
+                        .param("brandId", BRAND_ID.toString())
+                        .param("productId", PRODUCT_ID.toString())
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .header(HttpHeaders.IF_NONE_MATCH, first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(35.51));
+    }
+
+    private PriceResult createMockSegmentResult(LocalDateTime validUntil) {
+        Price price = Price.of(BRAND_ID, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                2L, PRODUCT_ID, 1, new BigDecimal("25.45"), "EUR");
+        return PriceResult.from(new PriceSegment(price.getStartDate(), PriceUnits.toEpochMicros(validUntil), price));
+    }
+
     private PriceResult createMockPriceResult(Long priceList, BigDecimal price) {
-        return new PriceResult(
-                PRODUCT_ID,
+        return PriceResult.from(Price.of(
                 BRAND_ID,
-                priceList,
                 LocalDateTime.of(2020, 6, 14, 0, 0, 0),
                 LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priceList,
+                PRODUCT_ID,
+                0,
                 price,
                 "EUR"
-        );
+        ));
     }
 }
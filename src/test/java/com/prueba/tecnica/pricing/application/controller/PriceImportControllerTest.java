@@ -0,0 +1,75 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.application.dto.PriceImportReportDto;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+
+/**
+ * Integration tests for the bulk price import endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Price Import Controller - Bulk CSV Import")
+class PriceImportControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should import valid rows, report rejected ones and serve the new prices")
+    void shouldImportCsv() {
+        // Given
+        String csv = """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                7,2020-06-14 00:00:00,2020-12-31 23:59:59,1,70001,0,19.99,EUR
+                7,2020-06-14T10:00:00,2020-06-14T12:00:00,2,70001,1,14.99,EUR
+
+                7,2020-06-14 12:00:00,2020-06-14 10:00:00,3,70001,1,9.99,EUR
+                7,2020-06-14 00:00:00,2020-12-31 23:59:59,4,70001,2,-1.00,EUR
+                7,not-a-date,2020-12-31 23:59:59,5,70001,2,1.00,EUR
+                7,2020-06-14 00:00:00
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        // When
+        ResponseEntity<PriceImportReportDto> response = restTemplate.postForEntity(
+                url("/api/v1/admin/prices/import"), new HttpEntity<>(csv, headers), PriceImportReportDto.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        PriceImportReportDto report = response.getBody();
+        assertThat(report.getAcceptedRows()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).isEqualTo(4);
+        assertThat(report.getRejections()).hasSize(4);
+        assertThat(report.getRejections().get(0)).startsWith("line 5:");
+
+        ResponseEntity<PriceResponseDto> price = restTemplate.getForEntity(
+                url("/api/v1/prices?brandId=7&productId=70001&applicationDate=2020-06-14T11:00:00"), PriceResponseDto.class);
+        assertThat(price.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(price.getBody().getPriceList()).isEqualTo(2L);
+        assertThat(price.getBody().getPrice()).isEqualByComparingTo(new BigDecimal("14.99"));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,100 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Integration tests for the streamed price timeline endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Price Timeline Controller - NDJSON Segments")
+class PriceTimelineControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should stream the resolved segments of a product cut to the period")
+    void shouldStreamProductTimeline() throws Exception {
+        // When
+        ResponseEntity<String> response = timeline("brandId=1&productId=35455&from=2020-06-14T00:00:00&to=2020-06-16T00:00:00");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(PriceTimelineController.APPLICATION_NDJSON);
+        List<JsonNode> segments = lines(response);
+        assertThat(segments).extracting(segment -> segment.get("priceList").asLong()).containsExactly(1L, 2L, 1L, 3L, 1L, 4L);
+        assertThat(segments.get(0).get("start").asText()).isEqualTo("2020-06-14T00:00:00");
+        assertThat(segments.get(0).get("end").asText()).isEqualTo("2020-06-14T15:00:00");
+        assertThat(segments.get(1).get("price").decimalValue()).isEqualByComparingTo("25.45");
+        assertThat(segments.get(5).get("start").asText()).isEqualTo("2020-06-15T16:00:00");
+        assertThat(segments.get(5).get("end").asText()).isEqualTo("2020-06-16T00:00:00");
+    }
+
+    @Test
+    @DisplayName("Should stream every product of the brand when no product is given")
+    void shouldStreamBrandTimeline() throws Exception {
+        // When
+        ResponseEntity<String> response = timeline("brandId=1&from=2020-06-14T10:00:00&to=2020-06-14T11:00:00");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<JsonNode> segments = lines(response);
+        assertThat(segments).isNotEmpty();
+        assertThat(segments).extracting(segment -> segment.get("productId").asLong()).isSorted().contains(35455L);
+    }
+
+    @Test
+    @DisplayName("Should return an empty body when no price applies in the period")
+    void shouldReturnEmptyTimeline() {
+        // When
+        ResponseEntity<String> response = timeline("brandId=1&productId=35455&from=2019-01-01T00:00:00&to=2019-02-01T00:00:00");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a period whose start is not before its end")
+    void shouldRejectEmptyPeriod() {
+        // When
+        ResponseEntity<String> response = timeline("brandId=1&productId=35455&from=2020-06-16T00:00:00&to=2020-06-14T00:00:00");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<String> timeline(String query) {
+        return restTemplate.getForEntity("http://localhost:" + port + "/api/v1/prices/timeline?" + query, String.class);
+    }
+
+    private List<JsonNode> lines(ResponseEntity<String> response) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : response.getBody().split("\n")) {
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
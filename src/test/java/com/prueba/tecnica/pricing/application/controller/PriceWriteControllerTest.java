@@ -0,0 +1,152 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.application.dto.ApiErrorResponse;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+import com.prueba.tecnica.pricing.application.dto.PriceWriteRequestDto;
+import com.prueba.tecnica.pricing.application.dto.StoredPriceDto;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.infrastructure.persistence.cache.PriceTimelineCache;
+
+/**
+ * Integration tests for the single price row write endpoints.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Price Write Controller - Create, Update and Delete")
+class PriceWriteControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Should serve created, updated and deleted prices on the next lookup")
+    void shouldServeWrittenPrices() {
+        // Given: the product is cached without prices
+        assertThat(lookup(8L, 80001L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        // When: created
+        ResponseEntity<StoredPriceDto> created = restTemplate.postForEntity(
+                url("/api/v1/admin/prices"), request(8L, 80001L, "19.99"), StoredPriceDto.class);
+
+        // Then
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        long id = created.getBody().getId();
+        assertThat(created.getHeaders().getLocation()).hasToString("/api/v1/admin/prices/" + id);
+        assertThat(lookup(8L, 80001L).getBody().getPrice()).isEqualByComparingTo(new BigDecimal("19.99"));
+
+        // When: updated
+        restTemplate.put(url("/api/v1/admin/prices/" + id), request(8L, 80001L, "17.50"));
+
+        // Then
+        assertThat(lookup(8L, 80001L).getBody().getPrice()).isEqualByComparingTo(new BigDecimal("17.50"));
+        assertThat(restTemplate.getForObject(url("/api/v1/admin/prices/" + id), StoredPriceDto.class).getPrice())
+                .isEqualByComparingTo(new BigDecimal("17.50"));
+
+        // When: deleted
+        ResponseEntity<Void> deleted = restTemplate.exchange(
+                url("/api/v1/admin/prices/" + id), HttpMethod.DELETE, null, Void.class);
+
+        // Then
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(lookup(8L, 80001L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(restTemplate.getForEntity(url("/api/v1/admin/prices/" + id), ApiErrorResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should refresh both products when an update moves a price to another product")
+    void shouldRefreshOldAndNewProduct() {
+        // Given
+        long id = restTemplate.postForEntity(url("/api/v1/admin/prices"), request(8L, 80002L, "10.00"), StoredPriceDto.class)
+                .getBody().getId();
+        assertThat(lookup(8L, 80002L).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(lookup(8L, 80003L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        // When
+        restTemplate.put(url("/api/v1/admin/prices/" + id), request(8L, 80003L, "10.00"));
+
+        // Then
+        assertThat(lookup(8L, 80002L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(lookup(8L, 80003L).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Should keep the cached timelines of other products warm")
+    void shouldKeepOtherProductsCached() {
+        // Given
+        assertThat(lookup(1L, 35455L).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(lookup(8L, 80004L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        // When
+        restTemplate.postForEntity(url("/api/v1/admin/prices"), request(8L, 80004L, "10.00"), StoredPriceDto.class);
+
+        // Then
+        assertThat(cacheManager.getCache(PriceTimelineCache.CACHE_NAME).get(new PriceKey(1L, 35455L))).isNotNull();
+        assertThat(cacheManager.getCache(PriceTimelineCache.CACHE_NAME).get(new PriceKey(8L, 80004L))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid prices and report unknown rows")
+    void shouldRejectInvalidWrites() {
+        // Given
+        PriceWriteRequestDto reversedRange = PriceWriteRequestDto.builder()
+                .brandId(8L).productId(80005L).priceList(1L).priority(0)
+                .startDate(END).endDate(START).price(new BigDecimal("1.00")).currency("EUR")
+                .build();
+
+        // When & Then
+        ResponseEntity<ApiErrorResponse> invalid = restTemplate.postForEntity(
+                url("/api/v1/admin/prices"), reversedRange, ApiErrorResponse.class);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(invalid.getBody().getMessage()).isEqualTo("startDate must be before endDate");
+        assertThat(restTemplate.postForEntity(url("/api/v1/admin/prices"), request(8L, 80005L, "1.001"),
+                ApiErrorResponse.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.exchange(url("/api/v1/admin/prices/999999"), HttpMethod.PUT,
+                new HttpEntity<>(request(8L, 80005L, "1.00")), ApiErrorResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(restTemplate.exchange(url("/api/v1/admin/prices/999999"), HttpMethod.DELETE, null,
+                ApiErrorResponse.class).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<PriceResponseDto> lookup(long brandId, long productId) {
+        return restTemplate.getForEntity(url("/api/v1/prices?brandId=" + brandId + "&productId=" + productId
+                + "&applicationDate=2020-06-14T10:00:00"), PriceResponseDto.class);
+    }
+
+    private static PriceWriteRequestDto request(long brandId, long productId, String price) {
+        return PriceWriteRequestDto.builder()
+                .brandId(brandId).productId(productId).priceList(1L).priority(0)
+                .startDate(START).endDate(END).price(new BigDecimal(price)).currency("EUR")
+                .build();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,119 @@
+package com.prueba.tecnica.pricing.application.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+
+/**
+ * Integration tests of the reactive stack: WebFlux on Netty with lookups read through R2DBC.
+ * The database is its own, reached by both the JDBC initialization and the R2DBC reads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-stack",
+        "pricing.r2dbc.url=r2dbc:h2:mem:///reactive-stack"})
+@ActiveProfiles({"test", "reactive"})
+@DisplayName("Reactive Price Controller - WebFlux and R2DBC")
+class ReactivePriceControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("Should resolve the required scenarios like the servlet stack")
+    void shouldResolveRequiredScenarios() {
+        assertThat(priceListAt("2020-06-14T10:00:00")).isEqualTo(1L);
+        assertThat(priceListAt("2020-06-14T16:00:00")).isEqualTo(2L);
+        assertThat(priceListAt("2020-06-14T21:00:00")).isEqualTo(1L);
+        assertThat(priceListAt("2020-06-15T10:00:00")).isEqualTo(3L);
+        assertThat(priceListAt("2020-06-16T21:00:00")).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should return the same body and caching headers as the servlet stack")
+    void shouldReturnPriceWithCachingHeaders() {
+        PriceResponseDto response = webTestClient.get()
+                .uri(uri("2020-06-14T16:00:00"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.ETAG, "\"[0-9a-f]{16}\"")
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=3600, public")
+                .expectHeader().exists(HttpHeaders.EXPIRES)
+                .expectBody(PriceResponseDto.class)
+                .returnResult().getResponseBody();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getPrice()).isEqualTo(new BigDecimal("25.45"));
+        assertThat(response.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(response.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match holds the ETag")
+    void shouldReturn304WhenETagMatches() {
+        String eTag = webTestClient.get()
+                .uri(uri("2020-06-14T10:00:00"))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient.get()
+                .uri(uri("2020-06-14T10:00:00"))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no price applies")
+    void shouldReturn404WhenPriceNotFound() {
+        webTestClient.get()
+                .uri("/api/v1/prices?brandId=1&productId=99999&applicationDate=2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("Not Found");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for missing or invalid parameters")
+    void shouldReturn400ForInvalidParameters() {
+        webTestClient.get()
+                .uri("/api/v1/prices?productId=35455&applicationDate=2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get()
+                .uri("/api/v1/prices?brandId=-1&productId=35455&applicationDate=2020-06-14T10:00:00")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Validation Error");
+        webTestClient.get()
+                .uri("/api/v1/prices?brandId=1&productId=35455&applicationDate=14-06-2020")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private Long priceListAt(String applicationDate) {
+        PriceResponseDto response = webTestClient.get()
+                .uri(uri(applicationDate))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PriceResponseDto.class)
+                .returnResult().getResponseBody();
+        assertThat(response).isNotNull();
+        return response.getPriceList();
+    }
+
+    private static String uri(String applicationDate) {
+        return "/api/v1/prices?brandId=1&productId=35455&applicationDate=" + applicationDate;
+    }
+}
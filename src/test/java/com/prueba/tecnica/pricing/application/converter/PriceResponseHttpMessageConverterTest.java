@@ -0,0 +1,93 @@
+package com.prueba.tecnica.pricing.application.converter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prueba.tecnica.pricing.application.dto.PriceResponseDto;
+
+/**
+ * Checks that the pre-encoded price response is byte-compatible with the auto-configured ObjectMapper.
+ */
+@JsonTest
+@DisplayName("Price Response Converter - Byte compatibility with Jackson")
+class PriceResponseHttpMessageConverterTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should write the same bytes as Jackson for the required scenarios")
+    void shouldMatchJacksonForRequiredScenarios() throws Exception {
+        assertSameAsJackson(response(1L, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                new BigDecimal("35.50"), "EUR"));
+        assertSameAsJackson(response(2L, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                new BigDecimal("25.45"), "EUR"));
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes as Jackson for random dates, amounts and edge values")
+    void shouldMatchJacksonForRandomValues() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = LocalDateTime.of(random.nextInt(10000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextBoolean() ? 0 : random.nextInt(1_000_000_000));
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(8));
+            assertSameAsJackson(response(random.nextLong(), start, start.plusSeconds(random.nextInt()), amount, "EUR"));
+        }
+
+        assertSameAsJackson(response(Long.MIN_VALUE, LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(-1, 1, 1, 0, 0),
+                new BigDecimal("1E+3"), "E\"Ré\n"));
+        assertSameAsJackson(response(0L, LocalDateTime.of(2020, 1, 1, 0, 0, 0, 120_000_000), LocalDateTime.of(2020, 1, 1, 0, 0, 0, 1),
+                new BigDecimal("0.0000001"), "USD"));
+        assertSameAsJackson(PriceResponseDto.builder().build());
+    }
+
+    @Test
+    @DisplayName("Should reuse the encoded bytes of a repeated response")
+    void shouldCacheEncodedResponses() throws Exception {
+        // Given
+        PriceResponseHttpMessageConverter converter = new PriceResponseHttpMessageConverter(10);
+        PriceResponseDto response = response(1L, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), new BigDecimal("35.50"), "EUR");
+        MockHttpOutputMessage first = new MockHttpOutputMessage();
+        MockHttpOutputMessage second = new MockHttpOutputMessage();
+
+        // When
+        converter.write(response, null, first);
+        converter.write(response(1L, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), new BigDecimal("35.50"), "EUR"), null, second);
+
+        // Then
+        assertThat(second.getBodyAsBytes()).isEqualTo(first.getBodyAsBytes())
+                .isEqualTo(objectMapper.writeValueAsBytes(response));
+        assertThat(second.getHeaders().getContentLength()).isEqualTo(first.getBodyAsBytes().length);
+    }
+
+    private void assertSameAsJackson(PriceResponseDto response) throws Exception {
+        assertThat(new String(PriceResponseHttpMessageConverter.encode(response), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    private static PriceResponseDto response(Long priceList, LocalDateTime start, LocalDateTime end, BigDecimal price,
+            String currency) {
+        return PriceResponseDto.builder()
+                .productId(35455L)
+                .brandId(1L)
+                .priceList(priceList)
+                .startDate(start)
+                .endDate(end)
+                .price(price)
+                .currency(currency)
+                .build();
+    }
+}
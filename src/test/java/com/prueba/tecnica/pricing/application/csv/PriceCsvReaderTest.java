@@ -0,0 +1,41 @@
+package com.prueba.tecnica.pricing.application.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+
+/**
+ * Unit tests for the price CSV reader.
+ */
+@DisplayName("Price CSV Reader - Parsing")
+class PriceCsvReaderTest {
+
+    @Test
+    @DisplayName("Should parse dates and amounts into the primitive price units")
+    void shouldParseLine() {
+        // When
+        PriceImportRow row = PriceCsvReader.parse(1, "1,2020-06-14 15:00:00,2020-06-14T18:30:00,2,35455,1,25.45,EUR");
+
+        // Then
+        assertThat(row.isParsed()).isTrue();
+        assertThat(row.price().getPrice()).isEqualTo(2545L);
+        assertThat(row.price().getEndDate() - row.price().getStartDate()).isEqualTo(12_600_000_000L);
+        assertThat(row.price().getCurrency()).isSameAs("EUR");
+    }
+
+    @Test
+    @DisplayName("Should reject amounts and currencies the PRICES table cannot store")
+    void shouldRejectUnstorableAmounts() {
+        assertThat(error("10.50,EURO")).isEqualTo("currency must be a three-letter ISO 4217 code");
+        assertThat(error("10.50,")).isEqualTo("currency must be a three-letter ISO 4217 code");
+        assertThat(error("10.505,EUR")).isEqualTo("price must have at most 2 decimals");
+        assertThat(error("123456789.00,EUR")).isEqualTo("price must have at most 8 integer digits");
+        assertThat(error("99999999.990,USD")).isNull();
+    }
+
+    private static String error(String amountAndCurrency) {
+        return PriceCsvReader.parse(1, "1,2020-06-14 00:00:00,2020-06-15 00:00:00,1,35455,0," + amountAndCurrency).error();
+    }
+}
@@ -0,0 +1,150 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the resolved price timeline.
+ */
+@DisplayName("Price Timeline - Resolution and Lookup")
+class PriceTimelineTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    @Test
+    @DisplayName("Should resolve the required scenarios with the highest priority price")
+    void shouldResolveRequiredScenarios() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(
+                price(1L, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50"),
+                price(2L, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45"),
+                price(3L, "2020-06-15T00:00:00", "2020-06-15T11:00:00", 1, "30.50"),
+                price(4L, "2020-06-15T16:00:00", "2020-12-31T23:59:59", 1, "38.95")));
+
+        // Then
+        assertThat(priceListAt(timeline, "2020-06-14T10:00:00")).contains(1L);
+        assertThat(priceListAt(timeline, "2020-06-14T16:00:00")).contains(2L);
+        assertThat(priceListAt(timeline, "2020-06-14T21:00:00")).contains(1L);
+        assertThat(priceListAt(timeline, "2020-06-15T10:00:00")).contains(3L);
+        assertThat(priceListAt(timeline, "2020-06-16T21:00:00")).contains(4L);
+        assertThat(priceListAt(timeline, "2020-06-14T18:30:00")).contains(2L);
+        assertThat(priceListAt(timeline, "2020-06-14T18:30:01")).contains(1L);
+        assertThat(priceListAt(timeline, "2020-12-31T23:59:59")).contains(4L);
+        assertThat(priceListAt(timeline, "2021-01-01T00:00:00")).isEmpty();
+        assertThat(priceListAt(timeline, "2020-06-13T23:59:59")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should break priority ties by the highest price")
+    void shouldBreakPriorityTiesByPrice() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(
+                price(1L, "2020-06-14T00:00:00", "2020-06-14T23:59:59", 1, "10.00"),
+                price(2L, "2020-06-14T10:00:00", "2020-06-14T12:00:00", 1, "12.00")));
+
+        // Then
+        assertThat(priceListAt(timeline, "2020-06-14T09:00:00")).contains(1L);
+        assertThat(priceListAt(timeline, "2020-06-14T11:00:00")).contains(2L);
+        assertThat(priceListAt(timeline, "2020-06-14T13:00:00")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Should return no price in gaps between ranges")
+    void shouldReturnEmptyInGaps() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(
+                price(1L, "2020-06-14T00:00:00", "2020-06-14T10:00:00", 0, "10.00"),
+                price(2L, "2020-06-14T12:00:00", "2020-06-14T14:00:00", 0, "12.00")));
+
+        // Then
+        assertThat(timeline.size()).isEqualTo(2);
+        assertThat(priceListAt(timeline, "2020-06-14T11:00:00")).isEmpty();
+        assertThat(priceListAt(timeline, "2020-06-14T12:00:00")).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Should report the segment covering an instant, ending where another price takes over")
+    void shouldReturnCoveringSegment() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(
+                price(1L, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50"),
+                price(2L, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45")));
+
+        // When
+        Optional<PriceSegment> segment = timeline.segmentAt(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T10:00:00")));
+
+        // Then
+        assertThat(segment).isPresent();
+        assertThat(segment.get().price().getPriceList()).isEqualTo(1L);
+        assertThat(segment.get().start()).isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T00:00:00")));
+        assertThat(segment.get().end()).isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T15:00:00")));
+        assertThat(timeline.segmentAt(PriceUnits.toEpochMicros(LocalDateTime.parse("2021-01-01T00:00:00")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should cut the segments overlapping a period to its bounds")
+    void shouldClipSegmentsToPeriod() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(
+                price(1L, "2020-06-14T00:00:00", "2020-12-31T23:59:59", 0, "35.50"),
+                price(2L, "2020-06-14T15:00:00", "2020-06-14T18:30:00", 1, "25.45")));
+
+        // When
+        List<PriceSegment> segments = timeline.segmentsBetween(
+                PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T10:00:00")),
+                PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T16:00:00")));
+
+        // Then
+        assertThat(segments).extracting(segment -> segment.price().getPriceList()).containsExactly(1L, 2L);
+        assertThat(segments.get(0).start()).isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T10:00:00")));
+        assertThat(segments.get(0).end()).isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T15:00:00")));
+        assertThat(segments.get(1).end()).isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.parse("2020-06-14T16:00:00")));
+        assertThat(timeline.segmentsBetween(
+                PriceUnits.toEpochMicros(LocalDateTime.parse("2021-01-01T00:00:00")),
+                PriceUnits.toEpochMicros(LocalDateTime.parse("2021-02-01T00:00:00")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force scan for random overlapping ranges")
+    void shouldMatchBruteForceScan() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            // Given
+            List<Price> prices = new ArrayList<>();
+            int count = 1 + random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(100));
+                LocalDateTime end = start.plusHours(1 + random.nextInt(50)).minusSeconds(random.nextInt(2));
+                prices.add(Price.of(1L, start, end, (long) i, 35455L, random.nextInt(3),
+                        BigDecimal.valueOf(1000 + i * 7L + random.nextInt(5) * 100L, 2), "EUR"));
+            }
+            PriceTimeline timeline = PriceTimeline.of(prices);
+
+            // Then
+            for (int minute = -60; minute < 160 * 60; minute += 17) {
+                long instant = PriceUnits.toEpochMicros(ORIGIN.plusMinutes(minute));
+                Optional<Price> expected = prices.stream()
+                        .filter(p -> p.getStartDate() <= instant && p.getEndDate() >= instant)
+                        .min(Price.PRECEDENCE);
+                assertThat(timeline.priceAt(instant)).as("instant %s", PriceUnits.toLocalDateTime(instant)).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static Optional<Long> priceListAt(PriceTimeline timeline, String instant) {
+        return timeline.priceAt(PriceUnits.toEpochMicros(LocalDateTime.parse(instant))).map(Price::getPriceList);
+    }
+
+    private static Price price(Long priceList, String start, String end, int priority, String amount) {
+        return Price.of(1L, LocalDateTime.parse(start), LocalDateTime.parse(end), priceList, 35455L, priority,
+                new BigDecimal(amount), "EUR");
+    }
+}
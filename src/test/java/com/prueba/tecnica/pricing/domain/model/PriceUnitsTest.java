@@ -0,0 +1,39 @@
+package com.prueba.tecnica.pricing.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the conversions of the primitive price units.
+ */
+@DisplayName("Price Units - Conversions")
+class PriceUnitsTest {
+
+    @Test
+    @DisplayName("Should round-trip date-times at microsecond precision, before and after the epoch")
+    void shouldRoundTripDates() {
+        for (LocalDateTime dateTime : new LocalDateTime[] {
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59, 999_999_000),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1_000),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59)}) {
+            assertThat(PriceUnits.toLocalDateTime(PriceUnits.toEpochMicros(dateTime))).isEqualTo(dateTime);
+        }
+        assertThat(PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 0, 0, 0, 1_999)))
+                .isEqualTo(PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 0, 0, 0, 1_000)));
+    }
+
+    @Test
+    @DisplayName("Should convert amounts to minor units and back with the same scale")
+    void shouldRoundTripAmounts() {
+        assertThat(PriceUnits.toMinorUnits(new BigDecimal("35.5"))).isEqualTo(3550L);
+        assertThat(PriceUnits.toAmount(3550L)).isEqualTo(new BigDecimal("35.50"));
+        assertThat(PriceUnits.toAmount(PriceUnits.toMinorUnits(new BigDecimal("0.00")))).isEqualTo(new BigDecimal("0.00"));
+        assertThatThrownBy(() -> PriceUnits.toMinorUnits(new BigDecimal("10.505"))).isInstanceOf(ArithmeticException.class);
+    }
+}
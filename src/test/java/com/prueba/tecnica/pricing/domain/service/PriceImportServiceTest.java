@@ -0,0 +1,100 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportReport;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+
+/**
+ * Unit tests for the bulk price import service.
+ */
+@DisplayName("Price Import Service - Validation and Chunking")
+class PriceImportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    private final List<Integer> writtenChunks = new ArrayList<>();
+    private final PriceImportService priceImportService =
+            new PriceImportService(prices -> writtenChunks.add(prices.size()), 3);
+
+    @Test
+    @DisplayName("Should write valid rows in chunks of the configured size")
+    void shouldWriteInChunks() {
+        // Given
+        Stream<PriceImportRow> rows = LongStream.rangeClosed(1, 7)
+                .mapToObj(line -> PriceImportRow.parsed(line, price(START, START.plusDays(1), "10.00")));
+
+        // When
+        PriceImportReport report = priceImportService.importPrices(rows);
+
+        // Then
+        assertThat(writtenChunks).containsExactly(3, 3, 1);
+        assertThat(report.getAcceptedRows()).isEqualTo(7);
+        assertThat(report.getRejectedRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject rows that break the price rules or could not be parsed")
+    void shouldRejectInvalidRows() {
+        // Given
+        Stream<PriceImportRow> rows = Stream.of(
+                PriceImportRow.parsed(1, price(START, START.plusDays(1), "10.00")),
+                PriceImportRow.parsed(2, price(START, START, "10.00")),
+                PriceImportRow.parsed(3, price(START.plusDays(1), START, "10.00")),
+                PriceImportRow.parsed(4, price(START, START.plusDays(1), "-0.01")),
+                PriceImportRow.unparseable(5, "expected 8 columns but found 3"),
+                PriceImportRow.parsed(6, price(START, START.plusDays(1), "0.00")));
+
+        // When
+        PriceImportReport report = priceImportService.importPrices(rows);
+
+        // Then
+        assertThat(report.getAcceptedRows()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).isEqualTo(4);
+        assertThat(report.getRejections()).containsExactly(
+                "line 2: startDate must be before endDate",
+                "line 3: startDate must be before endDate",
+                "line 4: price must be positive",
+                "line 5: expected 8 columns but found 3");
+        assertThat(writtenChunks).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should report a failed chunk as rejected and go on with the next chunks")
+    void shouldReportFailedChunks() {
+        // Given
+        List<Integer> written = new ArrayList<>();
+        PriceImportService service = new PriceImportService(prices -> {
+            if (written.size() == 1) {
+                written.add(-prices.size());
+                throw new IllegalStateException("constraint violation");
+            }
+            written.add(prices.size());
+        }, 2);
+        Stream<PriceImportRow> rows = LongStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceImportRow.parsed(line, price(START, START.plusDays(1), "10.00")));
+
+        // When
+        PriceImportReport report = service.importPrices(rows);
+
+        // Then
+        assertThat(written).containsExactly(2, -2, 1);
+        assertThat(report.getAcceptedRows()).isEqualTo(3);
+        assertThat(report.getRejectedRows()).isEqualTo(2);
+        assertThat(report.getRejections()).containsExactly("lines 3-4: chunk not written: constraint violation");
+    }
+
+    private static Price price(LocalDateTime start, LocalDateTime end, String amount) {
+        return Price.of(1L, start, end, 1L, 35455L, 0, new BigDecimal(amount), "EUR");
+    }
+}
@@ -0,0 +1,98 @@
+package com.prueba.tecnica.pricing.domain.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prueba.tecnica.pricing.domain.exception.InvalidPriceException;
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceWriterPort;
+
+/**
+ * Unit tests for the single price row write service.
+ */
+@DisplayName("Price Management Service - Validation and Missing Rows")
+class PriceManagementServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    private final InMemoryPriceWriter priceWriter = new InMemoryPriceWriter();
+    private final PriceManagementService priceManagementService = new PriceManagementService(priceWriter);
+
+    @Test
+    @DisplayName("Should create, update and delete a valid price")
+    void shouldWriteValidPrice() {
+        // When
+        StoredPrice created = priceManagementService.createPrice(price(START, START.plusDays(1), "10.00"));
+        StoredPrice updated = priceManagementService.updatePrice(created.id(), price(START, START.plusDays(2), "12.00"));
+        priceManagementService.deletePrice(created.id());
+
+        // Then
+        assertThat(updated.id()).isEqualTo(created.id());
+        assertThat(updated.price().getPrice()).isEqualTo(1200L);
+        assertThat(priceWriter.rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject prices that break the price rules without writing them")
+    void shouldRejectInvalidPrice() {
+        // When & Then
+        assertThatThrownBy(() -> priceManagementService.createPrice(price(START, START, "10.00")))
+                .isInstanceOf(InvalidPriceException.class)
+                .hasMessage("startDate must be before endDate");
+        assertThatThrownBy(() -> priceManagementService.createPrice(price(START, START.plusDays(1), "-0.01")))
+                .isInstanceOf(InvalidPriceException.class);
+        assertThat(priceWriter.rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report missing rows as not found")
+    void shouldReportMissingRows() {
+        // When & Then
+        assertThatThrownBy(() -> priceManagementService.getPrice(42L)).isInstanceOf(PriceNotFoundException.class);
+        assertThatThrownBy(() -> priceManagementService.updatePrice(42L, price(START, START.plusDays(1), "10.00")))
+                .isInstanceOf(PriceNotFoundException.class);
+        assertThatThrownBy(() -> priceManagementService.deletePrice(42L)).isInstanceOf(PriceNotFoundException.class);
+    }
+
+    private static Price price(LocalDateTime start, LocalDateTime end, String amount) {
+        return Price.of(1L, start, end, 1L, 35455L, 0, new BigDecimal(amount), "EUR");
+    }
+
+    private static final class InMemoryPriceWriter implements PriceWriterPort {
+
+        private final Map<Long, Price> rows = new HashMap<>();
+        private long nextId = 1;
+
+        @Override
+        public Optional<StoredPrice> findById(long id) {
+            return Optional.ofNullable(rows.get(id)).map(price -> new StoredPrice(id, price));
+        }
+
+        @Override
+        public StoredPrice create(Price price) {
+            long id = nextId++;
+            rows.put(id, price);
+            return new StoredPrice(id, price);
+        }
+
+        @Override
+        public Optional<StoredPrice> update(long id, Price price) {
+            return rows.replace(id, price) == null ? Optional.empty() : Optional.of(new StoredPrice(id, price));
+        }
+
+        @Override
+        public boolean delete(long id) {
+            return rows.remove(id) != null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.prueba.tecnica.pricing.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Integration tests for the price lookup metrics.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Pricing Metrics - Stage Timers and Lookup Counters")
+class PricingMetricsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time every stage of a lookup")
+    void shouldTimeEveryStage() {
+        // When
+        restTemplate.getForEntity(url(1L, 35455L), String.class);
+
+        // Then
+        for (String stage : new String[] {"controller", "use_case", "repository", "mapping"}) {
+            assertThat(meterRegistry.get(PricingMetrics.STAGE_TIMER).tag("stage", stage).timer().count())
+                    .as("stage %s", stage)
+                    .isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count found and not found lookups by brand")
+    void shouldCountOutcomesByBrand() {
+        // Given
+        double found = count("1", "found");
+        double notFound = count("1", "not_found");
+
+        // When
+        restTemplate.getForEntity(url(1L, 35455L), String.class);
+        restTemplate.getForEntity(url(1L, 99999L), String.class);
+
+        // Then
+        assertThat(count("1", "found")).isEqualTo(found + 1);
+        assertThat(count("1", "not_found")).isEqualTo(notFound + 1);
+        assertThat(meterRegistry.find(PricingMetrics.LOOKUP_COUNTER).tagKeys("product").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expose hit and miss statistics of the prices cache")
+    void shouldExposeCacheStatistics() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "prices").tag("result", "hit").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "prices").tag("result", "miss").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "prices").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should tag brands beyond the configured limit as other")
+    void shouldBoundBrandTags() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PricingMetrics pricingMetrics = new PricingMetrics(registry, 2);
+
+        // When
+        for (long brandId = 1; brandId <= 10; brandId++) {
+            pricingMetrics.recordLookup(brandId, true);
+        }
+
+        // Then
+        assertThat(registry.find(PricingMetrics.LOOKUP_COUNTER).tag("outcome", "found").counters()).hasSize(3);
+        assertThat(registry.get(PricingMetrics.LOOKUP_COUNTER).tag("brand", PricingMetrics.OTHER_BRAND)
+                .tag("outcome", "found").counter().count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should not exceed the brand tag limit when brands are first seen concurrently")
+    void shouldBoundBrandTagsUnderConcurrency() throws InterruptedException {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PricingMetrics pricingMetrics = new PricingMetrics(registry, 5);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            long firstBrand = t * 100L;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (long brandId = firstBrand; brandId < firstBrand + 100; brandId++) {
+                    pricingMetrics.recordLookup(brandId, true);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(registry.find(PricingMetrics.LOOKUP_COUNTER).tag("outcome", "found").counters()).hasSize(6);
+        assertThat(registry.find(PricingMetrics.LOOKUP_COUNTER).tag("outcome", "found").counters().stream()
+                .mapToDouble(Counter::count).sum()).isEqualTo(800);
+    }
+
+    private double count(String brand, String outcome) {
+        Counter counter = meterRegistry.find(PricingMetrics.LOOKUP_COUNTER).tag("brand", brand).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private String url(Long brandId, Long productId) {
+        return String.format("http://localhost:%d/api/v1/prices?brandId=%d&productId=%d&applicationDate=2020-06-14T10:00:00",
+                port, brandId, productId);
+    }
+}
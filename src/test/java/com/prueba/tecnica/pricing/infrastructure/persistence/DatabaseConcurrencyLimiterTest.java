@@ -0,0 +1,87 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Unit tests for the database concurrency cap.
+ */
+@DisplayName("Database Concurrency Limiter - Permits")
+class DatabaseConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Should never run more calls at once than the configured limit")
+    void shouldCapConcurrentCalls() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(4, Duration.ofSeconds(10));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    limiter.call(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        sleep(2);
+                        return running.decrementAndGet();
+                    });
+                    done.countDown();
+                });
+            }
+            done.await();
+        }
+
+        // Then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should fail fast when no permit is available within the timeout")
+    void shouldFailWhenNoPermitAvailable() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(20));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> limiter.call(() -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holding.await();
+
+        // Then
+        assertThatThrownBy(() -> limiter.call(() -> "late"))
+                .isInstanceOf(TransientDataAccessResourceException.class);
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.call(() -> "on time")).isEqualTo("on time");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
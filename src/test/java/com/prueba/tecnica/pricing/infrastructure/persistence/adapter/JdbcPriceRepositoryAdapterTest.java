@@ -0,0 +1,84 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.mapper.PriceEntityMapper;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+/**
+ * Integration tests checking that the plain JDBC adapter reads the same prices as the JPA repository.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=jdbc",
+        "spring.datasource.url=jdbc:h2:mem:jdbc-adapter"
+})
+@ActiveProfiles("test")
+@DisplayName("JDBC Price Repository Adapter - Equivalence with JPA")
+class JdbcPriceRepositoryAdapterTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private PriceImportUseCase priceImportUseCase;
+
+    @Test
+    @DisplayName("Should use the JDBC adapter")
+    void shouldUseJdbcAdapter() {
+        assertThat(priceRepositoryPort).isInstanceOf(JdbcPriceRepositoryAdapter.class);
+    }
+
+    @Test
+    @DisplayName("Should return the same price as the native query for every instant, from both lookups")
+    void shouldMatchNativeQuery() {
+        LocalDateTime instant = LocalDateTime.of(2020, 6, 13, 0, 0, 0);
+        LocalDateTime last = LocalDateTime.of(2021, 1, 2, 0, 0, 0);
+        while (instant.isBefore(last)) {
+            long applicationDate = PriceUnits.toEpochMicros(instant);
+            Optional<Price> expected = jpaPriceRepository.findBestApplicablePrice(1L, 35455L, instant)
+                    .map(PriceEntityMapper::toDomain);
+            Optional<Price> point = priceRepositoryPort.findApplicablePrices(1L, 35455L, applicationDate);
+            Optional<PriceSegment> segment = priceRepositoryPort.findApplicableSegment(1L, 35455L, applicationDate);
+
+            assertThat(point).as("instant %s", instant).usingRecursiveComparison().isEqualTo(expected);
+            assertThat(segment.map(PriceSegment::price)).as("instant %s", instant)
+                    .usingRecursiveComparison().isEqualTo(expected);
+            instant = instant.plusMinutes(30);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read imported prices on the next lookup")
+    void shouldReadImportedPrices() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        Price imported = Price.of(5L, start, start.plusDays(10), 7L, 50005L, 0, new BigDecimal("12.00"), "EUR");
+        assertThat(priceRepositoryPort.findApplicablePrices(5L, 50005L, PriceUnits.toEpochMicros(start.plusDays(1)))).isEmpty();
+
+        // When
+        priceImportUseCase.importPrices(Stream.of(PriceImportRow.parsed(1, imported)));
+
+        // Then
+        assertThat(priceRepositoryPort.findApplicablePrices(5L, 50005L, PriceUnits.toEpochMicros(start.plusDays(1))))
+                .map(Price::getPriceList).contains(7L);
+    }
+}
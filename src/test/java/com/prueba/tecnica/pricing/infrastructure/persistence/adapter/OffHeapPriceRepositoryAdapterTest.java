@@ -0,0 +1,95 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests checking that the off-heap store returns the same winner as the native query.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=off-heap",
+        "pricing.off-heap.max-changed-products=1",
+        "pricing.off-heap.compact-interval=PT1H",
+        "spring.datasource.url=jdbc:h2:mem:off-heap-adapter"
+})
+@ActiveProfiles("test")
+@DisplayName("Off-Heap Price Repository Adapter - Equivalence with JPA")
+class OffHeapPriceRepositoryAdapterTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private OffHeapPriceRepositoryAdapter offHeapPriceRepositoryAdapter;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private PriceImportUseCase priceImportUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should return the same price as the native query for every instant")
+    void shouldMatchNativeQuery() {
+        LocalDateTime instant = LocalDateTime.of(2020, 6, 13, 0, 0, 0);
+        LocalDateTime last = LocalDateTime.of(2021, 1, 2, 0, 0, 0);
+        while (instant.isBefore(last)) {
+            Optional<String> expected = jpaPriceRepository.findBestApplicablePrice(1L, 35455L, instant)
+                    .map(entity -> entity.getPriceList() + " " + entity.getPrice() + " " + entity.getCurrency());
+            Optional<String> actual = priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(instant))
+                    .map(price -> price.getPriceList() + " " + PriceUnits.toAmount(price.getPrice()) + " " + price.getCurrency());
+
+            assertThat(actual).as("instant %s", instant).isEqualTo(expected);
+            instant = instant.plusMinutes(30);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve imported prices without a restart, and fold them into the store on compaction")
+    void shouldRefreshImportedProducts() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        long instant = PriceUnits.toEpochMicros(start.plusDays(1));
+        Price imported = Price.of(4L, start, start.plusDays(10), 7L, 40004L, 0, new BigDecimal("12.00"), "EUR");
+        assertThat(priceRepositoryPort.findApplicablePrices(4L, 40004L, instant)).isEmpty();
+
+        // When
+        priceImportUseCase.importPrices(Stream.of(PriceImportRow.parsed(1, imported)));
+
+        // Then
+        assertThat(priceRepositoryPort.findApplicablePrices(4L, 40004L, instant)).map(Price::getPriceList).contains(7L);
+        assertThat(changedProducts()).isGreaterThanOrEqualTo(1);
+
+        // When
+        offHeapPriceRepositoryAdapter.compact();
+
+        // Then
+        assertThat(changedProducts()).isZero();
+        assertThat(priceRepositoryPort.findApplicablePrices(4L, 40004L, instant)).map(Price::getPriceList).contains(7L);
+    }
+
+    private double changedProducts() {
+        return meterRegistry.get("pricing.off-heap.changed").gauge().value();
+    }
+}
@@ -0,0 +1,167 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+/**
+ * Query-plan regression tests: every repository query runs under EXPLAIN ANALYZE against a synthetic
+ * PRICES table where each product has a long history, and must not scan more rows than its budget in
+ * query-plan-budgets.properties. Budgets sit below the rows of a brand, so a query that loses its
+ * (brand, product) index and falls back to a prefix or full scan fails.
+ * Native queries are read from the {@link Query} annotations, so a new repository query without a
+ * budget fails too.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Query Plan Regression - Rows scanned per repository query")
+class QueryPlanRegressionTest {
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    private static final Map<String, String> SAMPLE_PARAMETERS = Map.of(
+            "brandId", "2",
+            "productId", "37",
+            "applicationDate", "TIMESTAMP '2001-12-01 10:00:00'",
+            "CAST(:brandIds AS BIGINT ARRAY)", "ARRAY[CAST(2 AS BIGINT), 2]",
+            "CAST(:productIds AS BIGINT ARRAY)", "ARRAY[CAST(37 AS BIGINT), 38]");
+
+    private static final int INSERT_SLICE = 10_000;
+
+    private final Properties budgets = new Properties();
+    private Connection connection;
+
+    @BeforeAll
+    void loadSyntheticPrices() throws IOException, SQLException {
+        try (InputStream input = new ClassPathResource("query-plan-budgets.properties").getInputStream()) {
+            budgets.load(input);
+        }
+        connection = DriverManager.getConnection("jdbc:h2:mem:query-plans", "sa", "");
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+
+        int brands = Integer.parseInt(budgets.getProperty("synthetic.brands"));
+        int products = Integer.parseInt(budgets.getProperty("synthetic.products"));
+        int pricesPerProduct = Integer.parseInt(budgets.getProperty("synthetic.prices-per-product"));
+        long rows = (long) brands * products * pricesPerProduct;
+
+        // Row x belongs to brand x % brands, product (x / brands) % products and is the n-th price of it;
+        // each price starts 7 days after the previous one and lasts 10 days, so neighbours overlap and
+        // every product has a long history that a query losing its index would have to scan
+        String perProduct = "((X / " + brands + ") / " + products + ")";
+        try (Statement statement = connection.createStatement()) {
+            for (long first = 0; first < rows; first += INSERT_SLICE) {
+                statement.execute("""
+                        INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+                        SELECT 1 + MOD(X, %1$d),
+                               DATEADD(DAY, 7 * %2$s, TIMESTAMP '2000-01-01 00:00:00'),
+                               DATEADD(DAY, 7 * %2$s + 10, TIMESTAMP '2000-01-01 00:00:00'),
+                               1 + %2$s, MOD(X / %1$d, %3$d), MOD(%2$s, 3), 10 + MOD(X, 50), 'EUR'
+                        FROM SYSTEM_RANGE(%4$d, %5$d)
+                        """.formatted(brands, perProduct, products, first, Math.min(first + INSERT_SLICE, rows) - 1));
+            }
+            statement.execute("""
+                    INSERT INTO PRICE_SEGMENTS (BRAND_ID, PRODUCT_ID, SEGMENT_START, SEGMENT_END,
+                        START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR)
+                    SELECT BRAND_ID, PRODUCT_ID, START_DATE, DATEADD(DAY, 7, START_DATE),
+                           START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR
+                    FROM PRICES
+                    """);
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    void close() throws SQLException {
+        connection.close();
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (Method method : JpaPriceRepository.class.getDeclaredMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            if (query != null && query.nativeQuery()) {
+                queries.add(Arguments.of("JpaPriceRepository." + method.getName(), bindNamed(query.value(), method)));
+            }
+        }
+        queries.add(Arguments.of("SegmentPriceRepositoryAdapter.SELECT_SEGMENT",
+                bindPositional(SegmentPriceRepositoryAdapter.SELECT_SEGMENT,
+                        SAMPLE_PARAMETERS.get("brandId"), SAMPLE_PARAMETERS.get("productId"), SAMPLE_PARAMETERS.get("applicationDate"), SAMPLE_PARAMETERS.get("applicationDate"))));
+        return queries.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Should stay within the scanned rows budget")
+    void shouldStayWithinBudget(String name, String sql) throws SQLException {
+        // Given
+        String budget = budgets.getProperty(name);
+        assertThat(budget).as("No scanned rows budget configured for %s", name).isNotNull();
+
+        // When
+        String plan = explainAnalyze(sql);
+        long scanned = 0;
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        while (matcher.find()) {
+            scanned += Long.parseLong(matcher.group(1));
+        }
+
+        // Then
+        assertThat(plan).as("Plan of %s", name).contains("scanCount");
+        assertThat(scanned).as("Rows scanned by %s, plan:%n%s", name, plan).isLessThanOrEqualTo(Long.parseLong(budget));
+    }
+
+    private String explainAnalyze(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("EXPLAIN ANALYZE " + sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static String bindNamed(String sql, Method method) {
+        String bound = sql;
+        for (Parameter parameter : method.getParameters()) {
+            String name = parameter.getAnnotation(Param.class).value();
+            String cast = "CAST(:" + name + " AS BIGINT ARRAY)";
+            bound = bound.contains(cast)
+                    ? bound.replace(cast, SAMPLE_PARAMETERS.get(cast))
+                    : bound.replace(":" + name, SAMPLE_PARAMETERS.get(name));
+        }
+        return bound;
+    }
+
+    private static String bindPositional(String sql, String... values) {
+        String bound = sql;
+        for (String value : values) {
+            bound = bound.replaceFirst("\\?", Matcher.quoteReplacement(value));
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,139 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+import com.prueba.tecnica.pricing.infrastructure.persistence.segment.PriceSegmentMaterializer;
+
+/**
+ * Integration tests checking that the materialized segments return the same winner as the native query.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=segments",
+        "spring.datasource.url=jdbc:h2:mem:segments-adapter"
+})
+@ActiveProfiles("test")
+@DisplayName("Segment Price Repository Adapter - Equivalence with JPA")
+class SegmentPriceRepositoryAdapterTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private PriceImportUseCase priceImportUseCase;
+
+    @Autowired
+    private PriceSegmentMaterializer priceSegmentMaterializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should use the segments adapter when selected by configuration")
+    void shouldUseSegmentAdapter() {
+        assertThat(priceRepositoryPort).isInstanceOf(SegmentPriceRepositoryAdapter.class);
+    }
+
+    @Test
+    @DisplayName("Should return the same price list as the native query for every instant")
+    void shouldMatchNativeQuery() {
+        assertEquivalent(1L, 35455L, LocalDateTime.of(2020, 6, 13, 0, 0, 0), LocalDateTime.of(2021, 1, 2, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should treat the end date as inclusive up to the second")
+    void shouldKeepEndDateInclusive() {
+        // Given
+        LocalDateTime lastSecond = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+
+        // When / Then
+        assertThat(priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(lastSecond)))
+                .map(Price::getPriceList).contains(2L);
+        assertThat(priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(lastSecond.plusNanos(500_000_000))))
+                .map(Price::getPriceList).contains(1L);
+    }
+
+    @Test
+    @DisplayName("Should recompute the segments of a product after its prices change")
+    void shouldRecomputeAfterImport() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        Stream<PriceImportRow> rows = Stream.of(
+                PriceImportRow.parsed(1, price(1L, start, start.plusDays(30), 0, "10.00")),
+                PriceImportRow.parsed(2, price(2L, start.plusDays(5), start.plusDays(10), 1, "8.00")),
+                PriceImportRow.parsed(3, price(3L, start.plusDays(8), start.plusDays(20), 1, "9.00")),
+                PriceImportRow.parsed(4, price(4L, start.plusDays(15), start.plusDays(40), 2, "7.00")),
+                PriceImportRow.parsed(5, price(5L, start.plusDays(50), start.plusDays(60), 0, "6.00")));
+
+        // When
+        priceImportUseCase.importPrices(rows);
+        awaitSegments();
+
+        // Then
+        assertEquivalent(3L, 80008L, start.minusDays(1), start.plusDays(62));
+    }
+
+    @Test
+    @DisplayName("Should drop the segments of products without prices on a full rebuild")
+    void shouldDropOrphanSegments() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO PRICE_SEGMENTS (BRAND_ID, PRODUCT_ID, SEGMENT_START, SEGMENT_END,
+                    START_DATE, END_DATE, PRICE_LIST, PRIORITY, PRICE, CURR)
+                VALUES (9, 90009, '2020-01-01 00:00:00', '2021-01-01 00:00:00',
+                    '2020-01-01 00:00:00', '2020-12-31 23:59:59', 1, 0, 1.00, 'EUR')
+                """);
+        assertThat(priceRepositoryPort.findApplicablePrices(9L, 90009L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 1, 0, 0)))).isPresent();
+
+        // When
+        priceSegmentMaterializer.rebuildAll();
+
+        // Then
+        assertThat(priceRepositoryPort.findApplicablePrices(9L, 90009L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 1, 0, 0)))).isEmpty();
+    }
+
+    private void awaitSegments() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!priceSegmentMaterializer.isIdle()) {
+            assertThat(System.nanoTime()).as("segments recomputed in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void assertEquivalent(long brandId, long productId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime instant = from;
+        while (instant.isBefore(to)) {
+            Optional<Long> expected = jpaPriceRepository.findBestApplicablePrice(brandId, productId, instant)
+                    .map(entity -> entity.getPriceList());
+            Optional<Long> actual = priceRepositoryPort.findApplicablePrices(brandId, productId, PriceUnits.toEpochMicros(instant))
+                    .map(Price::getPriceList);
+
+            assertThat(actual).as("instant %s", instant).isEqualTo(expected);
+            instant = instant.plusMinutes(30);
+        }
+    }
+
+    private static Price price(Long priceList, LocalDateTime start, LocalDateTime end, int priority, String amount) {
+        return Price.of(3L, start, end, priceList, 80008L, priority, new BigDecimal(amount), "EUR");
+    }
+}
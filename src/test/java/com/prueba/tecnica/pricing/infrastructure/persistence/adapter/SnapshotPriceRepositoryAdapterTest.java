@@ -0,0 +1,102 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.adapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceImportRow;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceImportUseCase;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+/**
+ * Integration tests checking that the mapped snapshot returns the same winner as the native query.
+ * The snapshot file does not exist when the context starts, so the adapter exports it from PRICES first.
+ */
+@SpringBootTest(properties = {
+        "pricing.repository.type=snapshot",
+        "spring.datasource.url=jdbc:h2:mem:snapshot-adapter"
+})
+@ActiveProfiles("test")
+@DisplayName("Snapshot Price Repository Adapter - Equivalence with JPA")
+class SnapshotPriceRepositoryAdapterTest {
+
+    private static final Path SNAPSHOT = createTempDirectory().resolve("prices.snap");
+
+    @DynamicPropertySource
+    static void snapshotFile(DynamicPropertyRegistry registry) {
+        registry.add("pricing.snapshot.file", SNAPSHOT::toString);
+    }
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Autowired
+    private PriceImportUseCase priceImportUseCase;
+
+    @Test
+    @DisplayName("Should use the snapshot adapter over an exported snapshot file")
+    void shouldUseSnapshotAdapter() {
+        assertThat(priceRepositoryPort).isInstanceOf(SnapshotPriceRepositoryAdapter.class);
+        assertThat(SNAPSHOT).exists();
+    }
+
+    @Test
+    @DisplayName("Should return the same price list as the native query for every instant")
+    void shouldMatchNativeQuery() {
+        LocalDateTime instant = LocalDateTime.of(2020, 6, 13, 0, 0, 0);
+        LocalDateTime last = LocalDateTime.of(2021, 1, 2, 0, 0, 0);
+        while (instant.isBefore(last)) {
+            Optional<Long> expected = jpaPriceRepository.findBestApplicablePrice(1L, 35455L, instant)
+                    .map(entity -> entity.getPriceList());
+            Optional<Long> actual = priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(instant))
+                    .map(Price::getPriceList);
+
+            assertThat(actual).as("instant %s", instant).isEqualTo(expected);
+            instant = instant.plusMinutes(30);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve prices changed after the snapshot without a restart")
+    void shouldRefreshImportedProducts() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        Price imported = Price.of(4L, start, start.plusDays(10), 7L, 40004L, 0, new BigDecimal("12.00"), "EUR");
+        assertThat(priceRepositoryPort.findApplicablePrices(4L, 40004L, PriceUnits.toEpochMicros(start.plusDays(1)))).isEmpty();
+
+        // When
+        priceImportUseCase.importPrices(Stream.of(PriceImportRow.parsed(1, imported)));
+
+        // Then
+        assertThat(priceRepositoryPort.findApplicablePrices(4L, 40004L, PriceUnits.toEpochMicros(start.plusDays(1))))
+                .map(Price::getPriceList).contains(7L);
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("price-snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
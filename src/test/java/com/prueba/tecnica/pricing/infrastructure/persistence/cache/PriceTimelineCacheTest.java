@@ -0,0 +1,156 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.outbound.PriceRepositoryPort;
+import com.prueba.tecnica.pricing.infrastructure.persistence.DatabaseConcurrencyLimiter;
+import com.prueba.tecnica.pricing.infrastructure.persistence.repository.JpaPriceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Integration tests for the timeline-granular price cache.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Price Timeline Cache - Timeline Granular Entries")
+class PriceTimelineCacheTest {
+
+    private static final PriceKey KEY = new PriceKey(1L, 35455L);
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceTimelineCache priceTimelineCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+
+    @BeforeEach
+    void setUp() {
+        nativeCache = ((CaffeineCache) cacheManager.getCache(PriceTimelineCache.CACHE_NAME)).getNativeCache();
+        priceTimelineCache.evict(KEY);
+    }
+
+    @Test
+    @DisplayName("Should answer different application dates of a product from one cache entry")
+    void shouldHitForAnyApplicationDate() {
+        // Given
+        CacheStats before = nativeCache.stats();
+
+        // When
+        priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 10, 0, 1)));
+        priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 16, 0, 2)));
+        priceRepositoryPort.findApplicablePrices(1L, 35455L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 16, 21, 0, 3)));
+
+        // Then
+        CacheStats delta = nativeCache.stats().minus(before);
+        assertThat(delta.missCount()).isEqualTo(1);
+        assertThat(delta.hitCount()).isEqualTo(2);
+        assertThat(nativeCache.getIfPresent(KEY)).isInstanceOf(PriceTimeline.class);
+    }
+
+    @Test
+    @DisplayName("Should cache products without prices as empty timelines")
+    void shouldCacheEmptyTimelines() {
+        // Given
+        PriceKey unknown = new PriceKey(1L, 99999L);
+
+        // When
+        Map<PriceKey, PriceTimeline> timelines = priceTimelineCache.getAll(List.of(KEY, unknown));
+
+        // Then
+        assertThat(timelines.get(KEY).size()).isGreaterThan(0);
+        assertThat(timelines.get(unknown).isEmpty()).isTrue();
+        assertThat(nativeCache.getIfPresent(unknown)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should bound the cache by the configured maximum number of products")
+    void shouldBeBounded() {
+        assertThat(nativeCache.policy().eviction()).isPresent();
+        assertThat(nativeCache.policy().eviction().get().getMaximum()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("Should not store a timeline loaded before a concurrent eviction")
+    void shouldDropLoadRacingWithEviction() {
+        // Given
+        JpaPriceRepository repository = mock(JpaPriceRepository.class);
+        CaffeineCacheManager manager = new CaffeineCacheManager(PriceTimelineCache.CACHE_NAME);
+        PriceTimelineCache cache = new PriceTimelineCache(manager, repository,
+                new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+        when(repository.findProductPrices(1L, 35455L)).thenAnswer(invocation -> {
+            // The prices change and the key is evicted while this load is in flight
+            cache.evict(KEY);
+            return List.of();
+        });
+
+        // When
+        PriceTimeline loaded = cache.get(KEY);
+
+        // Then
+        assertThat(loaded.isEmpty()).isTrue();
+        assertThat(((CaffeineCache) manager.getCache(PriceTimelineCache.CACHE_NAME)).getNativeCache().getIfPresent(KEY))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should run one query for concurrent misses of the same product")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        JpaPriceRepository repository = mock(JpaPriceRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PriceTimelineCache cache = new PriceTimelineCache(new CaffeineCacheManager(PriceTimelineCache.CACHE_NAME),
+                repository, new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(1)), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findProductPrices(1L, 35455L)).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                executor.submit(() -> cache.get(KEY));
+            }
+            while (meterRegistry.get(PriceTimelineCache.LOADS_METER).tag("result", "coalesced").functionCounter().count() < 19) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+        }
+
+        // Then
+        verify(repository, times(1)).findProductPrices(1L, 35455L);
+        assertThat(meterRegistry.get(PriceTimelineCache.LOADS_METER).tag("result", "loaded").functionCounter().count())
+                .isEqualTo(1);
+    }
+}
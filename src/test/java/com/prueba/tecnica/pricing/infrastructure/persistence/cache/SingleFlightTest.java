@@ -0,0 +1,125 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the coalescing of concurrent loads.
+ */
+@DisplayName("Single Flight - Load Coalescing")
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key")
+    void shouldShareOneLoad() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.load("key", () -> {
+                    runs.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            awaitWaiters(singleFlight, CALLERS - 1);
+            release.countDown();
+        }
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isEqualTo(42);
+        }
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(singleFlight.loads()).isEqualTo(1);
+        assertThat(singleFlight.coalesced()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give the exception of a failed load to every waiting caller")
+    void shouldShareFailure() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.load("key", () -> {
+                    await(release);
+                    throw new IllegalStateException("database down");
+                })));
+            }
+            awaitWaiters(singleFlight, CALLERS - 1);
+            release.countDown();
+        }
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertThatThrownBy(result::get).hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("database down");
+        }
+        assertThat(singleFlight.loads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous load has completed or been forgotten")
+    void shouldNotShareCompletedOrForgottenLoads() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+
+        // When
+        singleFlight.load("key", runs::incrementAndGet);
+        singleFlight.load("key", runs::incrementAndGet);
+        singleFlight.loadAsync("async", () -> pending);
+        singleFlight.forget("async");
+        singleFlight.loadAsync("async", () -> CompletableFuture.completedFuture(runs.incrementAndGet()));
+        pending.complete(0);
+
+        // Then
+        assertThat(runs.get()).isEqualTo(3);
+        assertThat(singleFlight.coalesced()).isZero();
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    /**
+     * Wait until the given number of callers found the load in flight.
+     */
+    private static void awaitWaiters(SingleFlight<?, ?> singleFlight, int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.coalesced() < waiters && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
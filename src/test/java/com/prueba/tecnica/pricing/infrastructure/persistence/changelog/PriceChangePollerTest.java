@@ -0,0 +1,146 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.changelog;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the change log trigger and its poller, with PRICES written behind the
+ * application's back as the ERP loader does.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:change-log",
+        "pricing.changes.enabled=true",
+        "pricing.changes.poll-interval=PT1H"
+})
+@ActiveProfiles("test")
+@DisplayName("Price Change Poller - External Writes")
+class PriceChangePollerTest {
+
+    private static final String INSERT_PRICE = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, 5, 10.00, 'EUR')
+            """;
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+    private static final long INSTANT = PriceUnits.toEpochMicros(START.plusDays(1));
+
+    @Autowired
+    private PriceChangePoller priceChangePoller;
+
+    @Autowired
+    private PriceQueryUseCase priceQueryUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should serve an externally written price once the poller has applied it")
+    void shouldApplyExternalWrites() {
+        // Given
+        long instant = PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 10, 0));
+        assertThat(priceQueryUseCase.getApplicablePrice(1L, 35455L, instant).getPriceList()).isEqualTo(1L);
+        long lagsBefore = refreshLags();
+
+        // When
+        jdbcTemplate.update(INSERT_PRICE, 1L, Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 0, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 23, 59, 59)), 9L, 35455L);
+
+        // Then
+        assertThat(priceQueryUseCase.getApplicablePrice(1L, 35455L, instant).getPriceList()).isEqualTo(1L);
+
+        // When
+        priceChangePoller.poll();
+
+        // Then
+        assertThat(priceQueryUseCase.getApplicablePrice(1L, 35455L, instant).getPriceList()).isEqualTo(9L);
+        assertThat(refreshLags()).isEqualTo(lagsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should apply a change committed after a later one was polled")
+    void shouldApplyLateCommits() throws Exception {
+        // Given
+        assertThatThrownBy(() -> priceQueryUseCase.getApplicablePrice(3L, 70001L, INSTANT))
+                .isInstanceOf(PriceNotFoundException.class);
+        assertThatThrownBy(() -> priceQueryUseCase.getApplicablePrice(3L, 70002L, INSTANT))
+                .isInstanceOf(PriceNotFoundException.class);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insert(connection, 70001L);
+
+            // When
+            jdbcTemplate.update(INSERT_PRICE, 3L, Timestamp.valueOf(START),
+                    Timestamp.valueOf(START.plusDays(10)), 7L, 70002L);
+            priceChangePoller.poll();
+
+            // Then
+            assertThat(priceQueryUseCase.getApplicablePrice(3L, 70002L, INSTANT).getPriceList()).isEqualTo(7L);
+
+            // When
+            connection.commit();
+        }
+        priceChangePoller.poll();
+
+        // Then
+        assertThat(priceQueryUseCase.getApplicablePrice(3L, 70001L, INSTANT).getPriceList()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should log both products of an update moving a price to another product")
+    void shouldLogBothKeysOfMovingUpdates() {
+        // Given
+        jdbcTemplate.update(INSERT_PRICE, 4L, Timestamp.valueOf(START), Timestamp.valueOf(START.plusDays(10)),
+                7L, 80001L);
+        Long lastId = jdbcTemplate.queryForObject(PriceChangePoller.SELECT_LAST_ID, Long.class);
+
+        // When
+        jdbcTemplate.update("UPDATE PRICES SET PRODUCT_ID = 80002 WHERE BRAND_ID = 4 AND PRODUCT_ID = 80001");
+
+        // Then
+        List<Long> products = jdbcTemplate.queryForList(
+                "SELECT PRODUCT_ID FROM PRICE_CHANGES WHERE ID > ? ORDER BY PRODUCT_ID", Long.class, lastId);
+        assertThat(products).containsExactly(80001L, 80002L);
+    }
+
+    private static void insert(Connection connection, long productId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_PRICE)) {
+            statement.setLong(1, 3L);
+            statement.setTimestamp(2, Timestamp.valueOf(START));
+            statement.setTimestamp(3, Timestamp.valueOf(START.plusDays(10)));
+            statement.setLong(4, 7L);
+            statement.setLong(5, productId);
+            statement.executeUpdate();
+        }
+    }
+
+    private long refreshLags() {
+        return meterRegistry.get(PriceChangePoller.REFRESH_LAG_TIMER).timer().count();
+    }
+}
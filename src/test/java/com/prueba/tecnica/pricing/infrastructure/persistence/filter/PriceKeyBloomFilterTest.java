@@ -0,0 +1,39 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the Bloom filter of brand and product pairs.
+ */
+@DisplayName("Price Key Bloom Filter - Membership")
+class PriceKeyBloomFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    @DisplayName("Should never reject an added pair and keep false positives near the target rate")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        PriceKeyBloomFilter filter = PriceKeyBloomFilter.withCapacity(KEYS, 0.01);
+
+        // When
+        for (long productId = 0; productId < KEYS; productId++) {
+            filter.add(1L + productId % 7, productId);
+        }
+
+        // Then
+        for (long productId = 0; productId < KEYS; productId++) {
+            assertThat(filter.mightContain(1L + productId % 7, productId)).isTrue();
+        }
+        int falsePositives = 0;
+        for (long productId = KEYS; productId < 2 * KEYS; productId++) {
+            if (filter.mightContain(1L + productId % 7, productId)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(KEYS / 50);
+        assertThat(filter.sizeInBytes()).isLessThan(2L * KEYS);
+    }
+}
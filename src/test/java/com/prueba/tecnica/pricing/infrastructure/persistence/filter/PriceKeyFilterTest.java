@@ -0,0 +1,117 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.filter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.prueba.tecnica.pricing.domain.exception.PriceNotFoundException;
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceKey;
+import com.prueba.tecnica.pricing.domain.model.PriceQuery;
+import com.prueba.tecnica.pricing.domain.model.PriceResult;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+import com.prueba.tecnica.pricing.domain.model.StoredPrice;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceManagementUseCase;
+import com.prueba.tecnica.pricing.domain.port.inbound.PriceQueryUseCase;
+import com.prueba.tecnica.pricing.infrastructure.persistence.cache.PriceTimelineCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the key filter in front of the price repository.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:key-filter")
+@ActiveProfiles("test")
+@DisplayName("Price Key Filter - Negative Lookups")
+class PriceKeyFilterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+    private static final long INSTANT = PriceUnits.toEpochMicros(START.plusDays(1));
+
+    @Autowired
+    private PriceQueryUseCase priceQueryUseCase;
+
+    @Autowired
+    private PriceManagementUseCase priceManagementUseCase;
+
+    @Autowired
+    private PriceKeyFilter priceKeyFilter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should answer unknown products before the repository, with a stackless exception")
+    void shouldRejectUnknownProducts() {
+        // Given
+        double rejectedBefore = rejected();
+
+        // When
+        PriceNotFoundException exception = catchThrowableOfType(
+                () -> priceQueryUseCase.getApplicablePrice(1L, 99_999_999L, INSTANT), PriceNotFoundException.class);
+
+        // Then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(rejected()).isEqualTo(rejectedBefore + 1);
+        assertThat(nativeCache().getIfPresent(new PriceKey(1L, 99_999_999L))).isNull();
+        assertThat(priceKeyFilter.mightHavePrices(1L, 35455L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should pass only the possibly priced products of a batch to the repository")
+    void shouldFilterBatches() {
+        // When
+        List<Optional<PriceResult>> results = priceQueryUseCase.getApplicablePrices(List.of(
+                new PriceQuery(1L, 88_888_888L, INSTANT),
+                new PriceQuery(1L, 35455L, PriceUnits.toEpochMicros(LocalDateTime.of(2020, 6, 14, 10, 0))),
+                new PriceQuery(2L, 35455L, INSTANT)));
+
+        // Then
+        assertThat(results.get(0)).isEmpty();
+        assertThat(results.get(1)).map(PriceResult::getPriceList).contains(1L);
+        assertThat(results.get(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should let through products priced after startup and drop deleted ones on rebuild")
+    void shouldFollowChanges() {
+        // Given
+        assertThat(priceKeyFilter.mightHavePrices(6L, 60006L)).isFalse();
+
+        // When
+        StoredPrice created = priceManagementUseCase.createPrice(
+                Price.of(6L, START, START.plusDays(10), 7L, 60006L, 0, new BigDecimal("12.00"), "EUR"));
+
+        // Then
+        assertThat(priceQueryUseCase.getApplicablePrice(6L, 60006L, INSTANT).getPriceList()).isEqualTo(7L);
+
+        // When
+        priceManagementUseCase.deletePrice(created.id());
+        priceKeyFilter.rebuild();
+
+        // Then
+        assertThat(priceKeyFilter.mightHavePrices(6L, 60006L)).isFalse();
+    }
+
+    private double rejected() {
+        return meterRegistry.get(PriceKeyFilter.REJECTED_COUNTER).counter().count();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(PriceTimelineCache.CACHE_NAME)).getNativeCache();
+    }
+}
@@ -0,0 +1,116 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.offheap;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+
+/**
+ * Unit tests for the off-heap columnar price store.
+ */
+@DisplayName("Off-Heap Price Store - Lookup and Layout")
+class OffHeapPriceStoreTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    @Test
+    @DisplayName("Should answer every instant like the resolved timelines it was built from")
+    void shouldMatchTimelines() {
+        // Given
+        Random random = new Random(11);
+        List<List<PriceTimeline>> timelines = new ArrayList<>();
+        OffHeapPriceStore.Builder builder = OffHeapPriceStore.builder(1);
+        for (long brandId = 1; brandId <= 3; brandId++) {
+            List<PriceTimeline> brand = new ArrayList<>();
+            for (long productId = 1; productId <= 40; productId++) {
+                PriceTimeline timeline = PriceTimeline.of(randomPrices(random, brandId, productId));
+                brand.add(timeline);
+                builder.add(brandId, productId, timeline);
+            }
+            timelines.add(brand);
+        }
+
+        // When
+        OffHeapPriceStore store = builder.build();
+
+        // Then
+        assertThat(store.segments()).isEqualTo(timelines.stream().flatMap(List::stream).mapToInt(PriceTimeline::size).sum());
+        assertThat(store.products()).isEqualTo((int) timelines.stream().flatMap(List::stream).filter(t -> !t.isEmpty()).count());
+        for (long brandId = 0; brandId <= 4; brandId++) {
+            for (long productId = 0; productId <= 41; productId++) {
+                PriceTimeline expected = brandId >= 1 && brandId <= 3 && productId >= 1 && productId <= 40
+                        ? timelines.get((int) brandId - 1).get((int) productId - 1)
+                        : PriceTimeline.empty();
+                for (int minute = -60; minute < 160 * 60; minute += 23) {
+                    long instant = PriceUnits.toEpochMicros(ORIGIN.plusMinutes(minute));
+                    assertThat(store.segmentAt(brandId, productId, instant).map(OffHeapPriceStoreTest::describe))
+                            .as("product %d/%d at %s", brandId, productId, PriceUnits.toLocalDateTime(instant))
+                            .isEqualTo(expected.segmentAt(instant).map(OffHeapPriceStoreTest::describe));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold its columns at their exact size once built")
+    void shouldTrimColumns() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(price(1L, ORIGIN, ORIGIN.plusDays(1))));
+
+        // When
+        OffHeapPriceStore store = OffHeapPriceStore.builder(1_000).add(1L, 1L, timeline).add(1L, 2L, timeline).build();
+
+        // Then
+        assertThat(store.segments()).isEqualTo(2);
+        // Per product: brand and product ids and the first segment; per segment: six longs and two ints
+        assertThat(store.sizeInBytes()).isEqualTo(2 * (2 * Long.BYTES) + 3 * Integer.BYTES
+                + 2 * (6 * Long.BYTES + 2 * Integer.BYTES));
+    }
+
+    @Test
+    @DisplayName("Should refuse products out of order")
+    void shouldRejectUnsortedProducts() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(price(2L, ORIGIN, ORIGIN.plusDays(1))));
+        OffHeapPriceStore.Builder builder = OffHeapPriceStore.builder(1).add(1L, 2L, timeline);
+
+        // When & Then
+        assertThatThrownBy(() -> builder.add(1L, 2L, timeline)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.add(1L, 1L, timeline)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(builder.add(2L, 1L, timeline).build().products()).isEqualTo(2);
+    }
+
+    private static List<Price> randomPrices(Random random, long brandId, long productId) {
+        List<Price> prices = new ArrayList<>();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = ORIGIN.plusHours(random.nextInt(100));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(50)).minusSeconds(random.nextInt(2));
+            prices.add(Price.of(brandId, start, end, (long) i, productId, random.nextInt(3),
+                    BigDecimal.valueOf(1000 + i * 7L + random.nextInt(5) * 100L, 2), i % 2 == 0 ? "EUR" : "USD"));
+        }
+        return prices;
+    }
+
+    private static Price price(long productId, LocalDateTime start, LocalDateTime end) {
+        return Price.of(1L, start, end, 1L, productId, 0, new BigDecimal("35.50"), "EUR");
+    }
+
+    private static String describe(PriceSegment segment) {
+        Price price = segment.price();
+        return segment.start() + "-" + segment.end() + " " + price.getBrandId() + "/" + price.getProductId() + " list "
+                + price.getPriceList() + " " + price.getStartDate() + "-" + price.getEndDate() + " p" + price.getPriority()
+                + " " + price.getPrice() + " " + price.getCurrency();
+    }
+}
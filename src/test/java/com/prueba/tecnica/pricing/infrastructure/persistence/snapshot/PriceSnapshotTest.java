@@ -0,0 +1,143 @@
+package com.prueba.tecnica.pricing.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.prueba.tecnica.pricing.domain.model.Price;
+import com.prueba.tecnica.pricing.domain.model.PriceSegment;
+import com.prueba.tecnica.pricing.domain.model.PriceTimeline;
+import com.prueba.tecnica.pricing.domain.model.PriceUnits;
+
+/**
+ * Unit tests for the binary price snapshot format.
+ */
+@DisplayName("Price Snapshot - Format, Lookup and Validation")
+class PriceSnapshotTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should answer every instant like the resolved timelines it was written from")
+    void shouldMatchTimelines() throws IOException {
+        // Given
+        Random random = new Random(7);
+        List<PriceTimeline> timelines = new ArrayList<>();
+        Path file = directory.resolve("prices.snap");
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(file)) {
+            for (long productId = 1; productId <= 50; productId++) {
+                PriceTimeline timeline = PriceTimeline.of(randomPrices(random, productId));
+                timelines.add(timeline);
+                for (PriceSegment segment : timeline.segments()) {
+                    writer.append(segment);
+                }
+            }
+            writer.commit();
+        }
+
+        // When
+        PriceSnapshot snapshot = PriceSnapshot.open(file);
+
+        // Then
+        assertThat(snapshot.size()).isEqualTo(timelines.stream().mapToInt(PriceTimeline::size).sum());
+        for (long productId = 0; productId <= 51; productId++) {
+            PriceTimeline expected = productId >= 1 && productId <= 50 ? timelines.get((int) productId - 1) : PriceTimeline.empty();
+            for (int minute = -60; minute < 160 * 60; minute += 23) {
+                long instant = PriceUnits.toEpochMicros(ORIGIN.plusMinutes(minute));
+                assertThat(snapshot.segmentAt(1L, productId, instant).map(PriceSnapshotTest::describe))
+                        .as("product %d at %s", productId, PriceUnits.toLocalDateTime(instant))
+                        .isEqualTo(expected.segmentAt(instant).map(PriceSnapshotTest::describe));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose records were altered")
+    void shouldRejectCorruptSnapshot() throws IOException {
+        // Given
+        Path file = writeSingleSegment();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(file, bytes);
+
+        // When & Then
+        assertThatThrownBy(() -> PriceSnapshot.open(file)).isInstanceOf(IOException.class).hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("Should reject truncated files and files of another format")
+    void shouldRejectTruncatedSnapshot() throws IOException {
+        // Given
+        Path file = writeSingleSegment();
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = Files.write(directory.resolve("truncated.snap"), Arrays.copyOf(bytes, bytes.length - 1));
+        Path foreign = Files.writeString(directory.resolve("foreign.snap"), "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID");
+
+        // When & Then
+        assertThatThrownBy(() -> PriceSnapshot.open(truncated)).isInstanceOf(IOException.class).hasMessageContaining("truncated");
+        assertThatThrownBy(() -> PriceSnapshot.open(foreign)).isInstanceOf(IOException.class).hasMessageContaining("not a price snapshot");
+    }
+
+    @Test
+    @DisplayName("Should refuse segments out of order and leave no partial file behind")
+    void shouldRejectUnsortedSegments() throws IOException {
+        // Given
+        Path file = directory.resolve("unsorted.snap");
+        PriceTimeline timeline = PriceTimeline.of(List.of(price(2L, ORIGIN, ORIGIN.plusDays(1), 0, "10.00")));
+
+        // When & Then
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(file)) {
+            writer.append(timeline.segments().get(0));
+            assertThatThrownBy(() -> writer.append(timeline.segments().get(0))).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(file).doesNotExist();
+        assertThat(directory.resolve("unsorted.snap.tmp")).doesNotExist();
+    }
+
+    private Path writeSingleSegment() throws IOException {
+        Path file = directory.resolve("single.snap");
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(file)) {
+            writer.append(PriceTimeline.of(List.of(price(1L, ORIGIN, ORIGIN.plusDays(1), 0, "35.50"))).segments().get(0));
+            writer.commit();
+        }
+        return file;
+    }
+
+    private static List<Price> randomPrices(Random random, long productId) {
+        List<Price> prices = new ArrayList<>();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = ORIGIN.plusHours(random.nextInt(100));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(50)).minusSeconds(random.nextInt(2));
+            prices.add(Price.of(1L, start, end, (long) i, productId, random.nextInt(3),
+                    BigDecimal.valueOf(1000 + i * 7L + random.nextInt(5) * 100L, 2), i % 2 == 0 ? "EUR" : "USD"));
+        }
+        return prices;
+    }
+
+    private static Price price(long productId, LocalDateTime start, LocalDateTime end, int priority, String amount) {
+        return Price.of(1L, start, end, 1L, productId, priority, new BigDecimal(amount), "EUR");
+    }
+
+    private static String describe(PriceSegment segment) {
+        Price price = segment.price();
+        return segment.start() + "-" + segment.end() + " " + price.getBrandId() + "/" + price.getProductId() + " list "
+                + price.getPriceList() + " " + price.getStartDate() + "-" + price.getEndDate() + " p" + price.getPriority()
+                + " " + price.getPrice() + " " + price.getCurrency();
+    }
+}